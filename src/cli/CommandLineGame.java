@@ -26,7 +26,7 @@ public final class CommandLineGame {
         System.out.println("=== Word Guessing Game (CLI) ===");
 
         try (var scanner = new Scanner(System.in)) {
-            var wordService = new DictionaryService();
+            var wordService = new DictionaryService(true);
             var gameController = new GameController(wordService);
 
             var human = new GamePlayer(new PlayerProfile(prompt(scanner, "Enter your name"), ""), true);
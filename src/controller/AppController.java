@@ -15,10 +15,20 @@ import java.util.List;
 import java.util.stream.Collectors;
 import util.PersistenceService;
 import model.GameState.GameConfig;
+import model.HardWordEntry;
 import model.WordChoice;
+import model.enums.Difficulty;
+import model.enums.WordLength;
 
 public class AppController {
 
+    private static final long HINT_BUDGET_MILLIS = 50;
+    // The game panels show the clock in whole seconds
+    private static final long CLOCK_DISPLAY_MILLIS = 1000;
+    private static final int EVENT_QUEUE_CAPACITY = 64;
+    // Pattern matrices are saved here on first build and memory-mapped on later launches
+    private static final String PATTERN_CACHE_DIRECTORY = "patterns";
+
     private final GameSessionService gameSessionService;
     private final WordSelectionFlow wordSelectionFlow = new WordSelectionFlow();
     private final ProfileService profileService;
@@ -26,12 +36,14 @@ public class AppController {
     private final ViewModelMapper mapper = new ViewModelMapper();
 
     public AppController(PersistenceService persistenceService, GameController gameController, TurnTimer turnTimer) {
-        this.gameSessionService = new GameSessionService(gameController, turnTimer, new GameUiModelMapper(turnTimer, new KeyboardViewBuilder()));
+        this.gameSessionService = new GameSessionService(gameController, turnTimer, new GameUiModelMapper(turnTimer, new KeyboardViewBuilder()),
+                new PatternMatrixCache(persistenceService.getDataDirectory().resolve(PATTERN_CACHE_DIRECTORY)),
+                OpeningBook.fromResource(OpeningBook.DEFAULT_NAME));
         this.profileService = new ProfileService(persistenceService);
     }
     
     public void addGameEventListener(GameEventListener listener) {
-        gameSessionService.addEventListener(listener);
+        gameSessionService.addAsyncEventListener(listener, EVENT_QUEUE_CAPACITY);
     }
 
     public void setNavigation(Navigation navigation) {
@@ -110,6 +122,15 @@ public class AppController {
                 .collect(Collectors.toList());
     }
 
+    /**
+     * Hardest words measured from the games finished since launch, hardest first.
+     */
+    public List<HardWordEntryView> getHardestPlayedWords() {
+        return gameSessionService.wordStats().hardest().stream()
+                .map(e -> new HardWordEntryView(e.rank(), e.word(), e.hardnessScore()))
+                .collect(Collectors.toList());
+    }
+
     public String pickWord(WordLengthView length) {
         return gameSessionService.pickWord(mapper.toModel(length));
     }
@@ -118,6 +139,17 @@ public class AppController {
         return gameSessionService.isValidWord(word, mapper.toModel(length));
     }
 
+    public boolean isViablePrefix(String typed) {
+        return gameSessionService.isViablePrefix(typed);
+    }
+
+    /**
+     * Suggested guess for the current player; better suggestions follow as hintImproved events.
+     */
+    public String requestHint() {
+        return gameSessionService.requestHint(HINT_BUDGET_MILLIS);
+    }
+
     public void reportWinnerKnowledge(boolean winnerKnewWord) {
         gameSessionService.applyWinnerKnowledge(winnerKnewWord);
     }
@@ -148,8 +180,14 @@ public class AppController {
 
     public static AppController create() {
         var persistenceService = new PersistenceService();
-        var wordService = new DictionaryService();
-        var timerController = new TimerController();
+        var wordService = new DictionaryService(true);
+        for (WordLength wordLength : WordLength.values()) {
+            var ranking = persistenceService.loadHardestWords(wordLength, Difficulty.normal);
+            if (!ranking.isEmpty()) {
+                wordService.setHardnessRanking(wordLength, ranking.stream().map(HardWordEntry::word).toList());
+            }
+        }
+        var timerController = new TimerController(CLOCK_DISPLAY_MILLIS);
         var gameController = new GameController(wordService);
         return new AppController(persistenceService, gameController, timerController);
     }
@@ -0,0 +1,202 @@
+package controller;
+
+import controller.events.GameEventKind;
+import controller.events.GameEventListener;
+import controller.events.GameUiModel;
+import controller.events.PlayerSlot;
+import controller.events.TimerView;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+
+/**
+ * Delivers events to a listener from its own thread, so a slow listener never holds up the
+ * session or the clock that publishes them.
+ *
+ * Events wait in a bounded queue in publish order. A state update or hint still waiting at the
+ * tail of the queue is replaced by the next one of the same kind, so a lagging listener skips
+ * straight to the latest snapshot without seeing an older event after a newer one. A waiting
+ * timer update is likewise replaced by the next one for the same slot (timer updates do not
+ * depend on the state events around them). Game start and finish are never merged, and nothing
+ * is merged across them. Only when the queue is full of
+ * such events does the publisher wait. {@link #lag()} reports how far behind the listener runs.
+ */
+public final class AsyncGameEventListener implements GameEventListener, AutoCloseable {
+
+    /**
+     * Delivery statistics; lag is the time from publishing an event to handing it to the listener.
+     */
+    public record Lag(long delivered, long coalesced, int queued, long lastLagNanos, long maxLagNanos) { }
+
+    private final GameEventListener delegate;
+    private final int capacity;
+    private final ArrayDeque<Event> queue = new ArrayDeque<>();
+    private final Thread consumer;
+
+    // Waiting events that later ones of the same kind may replace; cleared at game start/finish
+    private Event pendingState;
+    private Event pendingHint;
+    private final Event[] pendingTimers = new Event[PlayerSlot.values().length];
+    // The most recently queued state event of any kind
+    private Event lastState;
+    private boolean closed;
+
+    private long delivered;
+    private long coalesced;
+    private long lastLagNanos;
+    private long maxLagNanos;
+
+    public AsyncGameEventListener(GameEventListener delegate, int capacity) {
+        if (delegate == null) {
+            throw new IllegalArgumentException("delegate is required");
+        }
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("capacity must be positive");
+        }
+        this.delegate = delegate;
+        this.capacity = capacity;
+        this.consumer = new Thread(this::drain, "GameEvents-" + delegate.getClass().getSimpleName());
+        consumer.setDaemon(true);
+        consumer.start();
+    }
+
+    @Override
+    public void onGameStateEvent(GameEventKind kind, GameUiModel view) {
+        synchronized (queue) {
+            if (kind == GameEventKind.gameStateUpdated && replace(pendingState, view)) return;
+            if (kind == GameEventKind.hintImproved && replace(pendingHint, view)) return;
+            Event event = enqueue(new Event(kind, view, null));
+            if (event == null) return;
+            switch (kind) {
+                case gameStateUpdated -> pendingState = event;
+                case hintImproved -> pendingHint = event;
+                default -> clearPending();
+            }
+            lastState = event;
+        }
+    }
+
+    @Override
+    public void onTimerEvent(TimerView timer) {
+        if (timer == null || timer.slot() == null) {
+            return;
+        }
+        synchronized (queue) {
+            Event pending = pendingTimers[timer.slot().ordinal()];
+            if (pending != null) {
+                pending.timer = timer;
+                coalesced++;
+                return;
+            }
+            pendingTimers[timer.slot().ordinal()] = enqueue(new Event(null, null, timer));
+        }
+    }
+
+    public Lag lag() {
+        synchronized (queue) {
+            return new Lag(delivered, coalesced, queue.size(), lastLagNanos, maxLagNanos);
+        }
+    }
+
+    /**
+     * Stops delivery; events still queued are dropped.
+     */
+    @Override
+    public void close() {
+        synchronized (queue) {
+            closed = true;
+            queue.clear();
+            clearPending();
+            queue.notifyAll();
+        }
+        consumer.interrupt();
+    }
+
+    private boolean replace(Event pending, GameUiModel view) {
+        // Only the newest state event may be rewritten; otherwise it would jump ahead of
+        // whatever was published after it
+        if (pending == null || pending != lastState) {
+            return false;
+        }
+        pending.view = view;
+        coalesced++;
+        return true;
+    }
+
+    /**
+     * Appends under the queue lock, waiting while the queue is full; null once closed.
+     */
+    private Event enqueue(Event event) {
+        while (queue.size() >= capacity && !closed) {
+            try {
+                queue.wait();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return null;
+            }
+        }
+        if (closed) {
+            return null;
+        }
+        queue.addLast(event);
+        queue.notifyAll();
+        return event;
+    }
+
+    private void clearPending() {
+        pendingState = null;
+        pendingHint = null;
+        Arrays.fill(pendingTimers, null);
+    }
+
+    private void drain() {
+        while (true) {
+            Event event;
+            synchronized (queue) {
+                while (queue.isEmpty() && !closed) {
+                    try {
+                        queue.wait();
+                    } catch (InterruptedException e) {
+                        if (closed) return;
+                    }
+                }
+                if (closed) return;
+                event = queue.pollFirst();
+                if (event == pendingState) pendingState = null;
+                if (event == pendingHint) pendingHint = null;
+                for (int i = 0; i < pendingTimers.length; i++) {
+                    if (event == pendingTimers[i]) pendingTimers[i] = null;
+                }
+                long lag = System.nanoTime() - event.publishedNanos;
+                lastLagNanos = lag;
+                maxLagNanos = Math.max(maxLagNanos, lag);
+                delivered++;
+                queue.notifyAll();
+            }
+            try {
+                if (event.timer != null) {
+                    delegate.onTimerEvent(event.timer);
+                } else {
+                    delegate.onGameStateEvent(event.kind, event.view);
+                }
+            } catch (RuntimeException e) {
+                System.err.println("Game event listener failed: " + e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * A queued event; the payload of a pending one is replaced in place when coalescing.
+     */
+    private static final class Event {
+        private final GameEventKind kind;
+        private final long publishedNanos = System.nanoTime();
+        private GameUiModel view;
+        private TimerView timer;
+
+        Event(GameEventKind kind, GameUiModel view, TimerView timer) {
+            this.kind = kind;
+            this.view = view;
+            this.timer = timer;
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package controller;
+
+/**
+ * Fixed-size Bloom filter over packed words. Answers "definitely absent" or "maybe present";
+ * sized from the expected number of entries and a target false-positive rate.
+ */
+final class BloomFilter {
+
+    private final long[] bits;
+    private final int bitCount;
+    private final int hashCount;
+
+    private BloomFilter(int bitCount, int hashCount) {
+        this.bits = new long[(bitCount + 63) >>> 6];
+        this.bitCount = bits.length << 6;
+        this.hashCount = hashCount;
+    }
+
+    static BloomFilter forCapacity(int expectedEntries, double falsePositiveRate) {
+        int n = Math.max(1, expectedEntries);
+        double ln2 = Math.log(2);
+        int m = (int) Math.ceil(-n * Math.log(falsePositiveRate) / (ln2 * ln2));
+        int k = Math.max(1, (int) Math.round((double) m / n * ln2));
+        return new BloomFilter(Math.max(64, m), k);
+    }
+
+    void add(int key) {
+        int h1 = mix(key);
+        int h2 = mix(h1 ^ 0x9E3779B9) | 1;
+        for (int i = 0; i < hashCount; i++) {
+            int bit = Integer.remainderUnsigned(h1 + i * h2, bitCount);
+            bits[bit >>> 6] |= 1L << bit;
+        }
+    }
+
+    boolean mightContain(int key) {
+        int h1 = mix(key);
+        int h2 = mix(h1 ^ 0x9E3779B9) | 1;
+        for (int i = 0; i < hashCount; i++) {
+            int bit = Integer.remainderUnsigned(h1 + i * h2, bitCount);
+            if ((bits[bit >>> 6] & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    long footprintBytes() {
+        return 16L + 8L * bits.length;
+    }
+
+    // murmur3 finalizer
+    private static int mix(int h) {
+        h ^= h >>> 16;
+        h *= 0x85EBCA6B;
+        h ^= h >>> 13;
+        h *= 0xC2B2AE35;
+        h ^= h >>> 16;
+        return h;
+    }
+}
@@ -0,0 +1,68 @@
+package controller;
+
+import java.util.BitSet;
+import model.GuessResult;
+import model.enums.Difficulty;
+import model.enums.WordLength;
+
+/**
+ * Narrows and scores the answers of one word length for one kind of feedback.
+ * Answers are addressed by column (index into the sorted answer list) and guesses by row
+ * (index into the sorted list of allowed guesses), as in {@link model.rules.PatternMatrix}.
+ * Feedback is compared through small integer keys in [0, {@link #keyCount()}).
+ */
+interface CandidateSolver {
+
+    /**
+     * Expert games use {@link ExpertSolver}; the others score full feedback patterns with
+     * {@link EntropySolver} over the bank's shared pattern matrix.
+     */
+    static CandidateSolver create(WordBank bank, WordLength wordLength, Difficulty difficulty, PatternMatrixCache matrices) {
+        if (difficulty == Difficulty.expert) {
+            return new ExpertSolver(bank.packedGuesses(wordLength), bank.packedAnswers(wordLength), wordLength.length());
+        }
+        return new EntropySolver(matrices.get(bank, wordLength));
+    }
+
+    int length();
+
+    int guessCount();
+
+    int guessWord(int guessRow);
+
+    /**
+     * Row of a packed guess, or a negative value if it is not an allowed guess.
+     */
+    int guessIndexOf(int packedGuess);
+
+    int answerCount();
+
+    int answerWord(int answer);
+
+    int keyCount();
+
+    /**
+     * Feedback key the answer would give this guess row.
+     */
+    int keyOf(int guessRow, int answer);
+
+    /**
+     * Feedback key of a submitted guess.
+     */
+    int observedKey(GuessResult result);
+
+    /**
+     * Clears the candidates that would not have produced this result.
+     */
+    void retain(BitSet candidates, GuessResult result);
+
+    /**
+     * How useful a guess row is against these candidates; higher is better.
+     */
+    double score(int guessRow, int[] candidates);
+
+    /**
+     * Best next guess for the remaining candidates, or null if none remain.
+     */
+    String bestGuess(int[] candidates);
+}
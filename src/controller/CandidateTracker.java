@@ -0,0 +1,112 @@
+package controller;
+
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.Map;
+import model.GamePlayer;
+import model.GuessResult;
+import model.PackedWord;
+
+/**
+ * Answers still consistent with each player's feedback, one bitset over the answer columns
+ * per player. Each recorded guess clears, in place, the answers that would have produced
+ * different feedback, so the remaining count is always ready without replaying the history.
+ * With an {@link OpeningBook} line, the first two guesses are looked up instead of searched.
+ */
+final class CandidateTracker {
+
+    private final CandidateSolver solver;
+    private final OpeningBook.Line openings;
+    private final Map<GamePlayer, PlayerCandidates> players = new HashMap<>();
+
+    CandidateTracker(CandidateSolver solver) {
+        this(solver, null);
+    }
+
+    /**
+     * @param openings precomputed first and second guesses for this solver's word lists, or null
+     */
+    CandidateTracker(CandidateSolver solver, OpeningBook.Line openings) {
+        this.solver = solver;
+        this.openings = openings;
+    }
+
+    CandidateSolver solver() {
+        return solver;
+    }
+
+    synchronized void record(GamePlayer player, GuessResult result) {
+        if (player == null || result == null) {
+            return;
+        }
+        PlayerCandidates state = stateFor(player);
+        int packedGuess = PackedWord.encode(result.guess());
+        if (packedGuess == PackedWord.INVALID) {
+            return;
+        }
+        int observed = solver.observedKey(result);
+        boolean onBook = openings != null && state.guesses == 0 && packedGuess == openings.opening();
+        state.openingKey = onBook ? observed : -1;
+        state.guesses++;
+        solver.retain(state.candidates, result);
+        state.remaining = state.candidates.cardinality();
+    }
+
+    /**
+     * Number of answers the player's word could still be.
+     */
+    synchronized int remaining(GamePlayer player) {
+        PlayerCandidates state = players.get(player);
+        return state != null ? state.remaining : solver.answerCount();
+    }
+
+    /**
+     * Opening-book guess for the player's next turn, or null once the game has left the book.
+     */
+    synchronized String bookGuess(GamePlayer player) {
+        if (openings == null) {
+            return null;
+        }
+        PlayerCandidates state = players.get(player);
+        int packed;
+        if (state == null || state.guesses == 0) {
+            packed = openings.opening();
+        } else if (state.guesses == 1 && state.openingKey >= 0) {
+            packed = openings.reply(state.openingKey);
+        } else {
+            packed = PackedWord.INVALID;
+        }
+        return packed == PackedWord.INVALID ? null : PackedWord.decode(packed, solver.length());
+    }
+
+    /**
+     * Ascending answer columns the player's word could still be.
+     */
+    synchronized int[] candidates(GamePlayer player) {
+        PlayerCandidates state = players.get(player);
+        if (state == null) {
+            int[] all = new int[solver.answerCount()];
+            for (int a = 0; a < all.length; a++) all[a] = a;
+            return all;
+        }
+        return state.candidates.stream().toArray();
+    }
+
+    private PlayerCandidates stateFor(GamePlayer player) {
+        return players.computeIfAbsent(player, p -> new PlayerCandidates(solver.answerCount()));
+    }
+
+    private static final class PlayerCandidates {
+        final BitSet candidates;
+        int remaining;
+        int guesses;
+        // Feedback key of the first guess when it was the book opening, otherwise -1
+        int openingKey = -1;
+
+        PlayerCandidates(int answerCount) {
+            candidates = new BitSet(answerCount);
+            candidates.set(0, answerCount);
+            remaining = answerCount;
+        }
+    }
+}
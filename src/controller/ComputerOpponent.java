@@ -0,0 +1,23 @@
+package controller;
+
+import model.GamePlayer;
+
+/**
+ * Plays the non-human side of a solo game. Each turn it picks the best guess over the answers its
+ * own feedback still allows (see {@link CandidateSolver}), or looks its first two guesses up in
+ * the opening book when one was loaded.
+ */
+final class ComputerOpponent {
+
+    /**
+     * Next guess for the computer player, or null if no answer is consistent with its feedback
+     * (e.g. the secret word is not on the answer list).
+     */
+    String nextGuess(CandidateTracker tracker, GamePlayer computer) {
+        if (tracker == null || computer == null || tracker.solver().guessCount() == 0) {
+            return null;
+        }
+        String book = tracker.bookGuess(computer);
+        return book != null ? book : tracker.solver().bestGuess(tracker.candidates(computer));
+    }
+}
@@ -0,0 +1,123 @@
+package controller;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.EnumMap;
+import java.util.Map;
+import model.enums.WordLength;
+
+/**
+ * Offline compiler from a plain word list to the binary dictionary format, plus the matching reader.
+ *
+ * Layout (big-endian ints):
+ * magic, version, sectionCount, then per section {wordLength, count, payloadOffsetInBytes},
+ * then each section's sorted packed words. Readers map the file and binary-search the
+ * sections in place, so startup cost does not depend on the size of the list.
+ *
+ * Usage: java controller.DictionaryCompiler resources/words.txt resources/words.bin
+ */
+public final class DictionaryCompiler {
+
+    static final int MAGIC = 0x4C475744; // "LGWD"
+    static final int VERSION = 1;
+    private static final int HEADER_INTS = 3;
+    private static final int SECTION_INTS = 3;
+
+    private DictionaryCompiler() {
+        // Private constructor to prevent instantiation
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length != 2) {
+            System.err.println("Usage: DictionaryCompiler <words.txt> <words.bin>");
+            System.exit(2);
+        }
+        Path source = Paths.get(args[0]);
+        Path target = Paths.get(args[1]);
+        Map<WordLength, PackedWordIndex> indexes;
+        try (BufferedReader reader = Files.newBufferedReader(source)) {
+            indexes = WordBank.readWordList(reader);
+        }
+        write(indexes, target);
+        int total = indexes.values().stream().mapToInt(PackedWordIndex::size).sum();
+        System.out.println("Compiled " + total + " words into " + target);
+    }
+
+    /**
+     * Writes the indexes to a temp file and moves it into place so readers never see a partial file.
+     */
+    static void write(Map<WordLength, PackedWordIndex> indexes, Path target) throws IOException {
+        int sections = indexes.size();
+        int totalWords = indexes.values().stream().mapToInt(PackedWordIndex::size).sum();
+        int headerBytes = 4 * (HEADER_INTS + SECTION_INTS * sections);
+        ByteBuffer buffer = ByteBuffer.allocate(headerBytes + 4 * totalWords);
+        buffer.putInt(MAGIC).putInt(VERSION).putInt(sections);
+
+        int payloadOffset = headerBytes;
+        for (var entry : indexes.entrySet()) {
+            buffer.putInt(entry.getKey().length()).putInt(entry.getValue().size()).putInt(payloadOffset);
+            payloadOffset += 4 * entry.getValue().size();
+        }
+        for (PackedWordIndex index : indexes.values()) {
+            int[] words = new int[index.size()];
+            index.copyTo(words, 0);
+            buffer.asIntBuffer().put(words);
+            buffer.position(buffer.position() + 4 * words.length);
+        }
+        buffer.flip();
+
+        Path parent = target.toAbsolutePath().getParent();
+        Path temp = Files.createTempFile(parent, target.getFileName().toString(), ".tmp");
+        try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.WRITE)) {
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+        }
+        Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /**
+     * Memory-maps a compiled dictionary; sections are read lazily by the OS as they are probed.
+     */
+    static Map<WordLength, PackedWordIndex> map(Path file) throws IOException {
+        MappedByteBuffer mapped;
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+        if (mapped.limit() < 4 * HEADER_INTS || mapped.getInt(0) != MAGIC) {
+            throw new IOException("Not a compiled dictionary: " + file);
+        }
+        int version = mapped.getInt(4);
+        if (version != VERSION) {
+            throw new IOException("Unsupported dictionary version " + version + " in " + file);
+        }
+        int limit = mapped.limit();
+        int sections = mapped.getInt(8);
+        if (sections < 0 || 4L * (HEADER_INTS + (long) SECTION_INTS * sections) > limit) {
+            throw new IOException("Corrupt dictionary " + file + ": " + sections + " sections do not fit");
+        }
+        Map<WordLength, PackedWordIndex> indexes = new EnumMap<>(WordLength.class);
+        for (int s = 0; s < sections; s++) {
+            int base = 4 * (HEADER_INTS + SECTION_INTS * s);
+            int length = mapped.getInt(base);
+            int count = mapped.getInt(base + 4);
+            int offset = mapped.getInt(base + 8);
+            if (count < 0 || offset < 0 || offset + 4L * count > limit) {
+                throw new IOException("Corrupt dictionary " + file + ": section " + s + " lies outside the file");
+            }
+            WordLength wordLength = WordBank.lengthOf(length);
+            if (wordLength == null || count == 0) continue;
+            var section = mapped.slice(offset, 4 * count).asIntBuffer();
+            indexes.put(wordLength, PackedWordIndex.wrap(wordLength, section));
+        }
+        return indexes;
+    }
+}
@@ -1,88 +1,154 @@
 package controller;
 
-import java.io.BufferedReader;
-import java.io.InputStreamReader;
-import java.util.Collections;
+import java.util.EnumMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Random;
-import java.util.Set;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.stream.Collectors;
-import util.Constants; // Correctly placed import
 import controller.WordService;
+import model.enums.HardnessBand;
 import model.enums.WordLength;
 
 /**
  * A service responsible for providing words from a dictionary.
+ * Each instance reads from its own immutable {@link WordBank}; banks can be shared by reference.
+ * The bank can be swapped at runtime (see {@link WordListReloader}); readers always see either the
+ * old or the new snapshot, never a partially built one.
  */
-public class DictionaryService implements WordService {
+public class DictionaryService implements PrefixWordService {
 
-    private static final Map<WordLength, Set<String>> WORD_BANK = new ConcurrentHashMap<>();
+    private volatile WordBank wordBank;
     private final Random random = new Random();
-
-    // Hardcoded word bank for testing and fallback
-    private static final Map<WordLength, Set<String>> DEFAULT_WORD_BANK = Map.of(
-            WordLength.three, Set.of("CAT", "SUN", "MAP"),
-            WordLength.four, Set.of("TREE", "LION", "BOAT"),
-            WordLength.five, Set.of("APPLE", "GRAPE", "PLANE", "BREAD"),
-            WordLength.six, Set.of("ORANGE", "PLANET", "STREAM")
-    );
+    private final boolean noRepeats;
+    private final Map<WordLength, ShuffleBag> shuffleBags = new EnumMap<>(WordLength.class);
+    // Hardest-first rankings by length, and the bands cut from them for the current bank
+    private final Map<WordLength, List<String>> hardnessRankings = new EnumMap<>(WordLength.class);
+    private volatile Map<WordLength, HardnessBuckets> hardnessBuckets = Map.of();
 
     public DictionaryService() {
-        loadWordBank();
-        if (WORD_BANK.isEmpty()) { // If loading from file failed, use default
-            System.out.println("Using default word bank as file loading failed or returned empty.");
-            DEFAULT_WORD_BANK.forEach((wordLength, words) ->
-                WORD_BANK.put(wordLength, Collections.unmodifiableSet(new java.util.HashSet<>(words)))
-            );
+        this(false);
+    }
+
+    /**
+     * @param noRepeats when true, pickWord draws from a per-length shuffle bag so no target
+     *                  repeats until every word of that length has been used.
+     */
+    public DictionaryService(boolean noRepeats) {
+        this(WordBank.standard(), noRepeats);
+    }
+
+    public DictionaryService(WordBank wordBank) {
+        this(wordBank, false);
+    }
+
+    public DictionaryService(WordBank wordBank, boolean noRepeats) {
+        this.wordBank = Objects.requireNonNull(wordBank, "wordBank");
+        this.noRepeats = noRepeats;
+    }
+
+    public WordBank getWordBank() {
+        return wordBank;
+    }
+
+    /**
+     * Publishes a new dictionary with a single volatile write.
+     */
+    public void replaceWordBank(WordBank newWordBank) {
+        this.wordBank = Objects.requireNonNull(newWordBank, "newWordBank");
+        rebuildHardnessBuckets();
+    }
+
+    /**
+     * Sets the precomputed hardness ranking (hardest first) used by
+     * {@link #pickWord(WordLength, HardnessBand)} for this length. The bands are rebuilt here and
+     * on every bank swap, never at pick time.
+     */
+    public void setHardnessRanking(WordLength wordLength, List<String> hardestFirst) {
+        synchronized (hardnessRankings) {
+            hardnessRankings.put(wordLength, List.copyOf(hardestFirst));
         }
+        rebuildHardnessBuckets();
     }
 
-    private void loadWordBank() {
-        try (BufferedReader reader = new BufferedReader(new InputStreamReader(
-                getClass().getResourceAsStream(Constants.RESOURCES_PATH + "words.txt")))) {
-            Map<WordLength, List<String>> tempMap = reader.lines()
-                    .filter(line -> !line.trim().isEmpty() && !line.startsWith("#"))
-                    .map(String::trim)
-                    .map(String::toUpperCase)
-                    .collect(Collectors.groupingBy(word -> {
-                        for (WordLength wl : WordLength.values()) {
-                            if (wl.length() == word.length()) {
-                                return wl;
-                            }
-                        }
-                        return null;
-                    }));
-
-            tempMap.forEach((wordLength, words) -> {
-                if (wordLength != null) {
-                    WORD_BANK.put(wordLength, Collections.unmodifiableSet(new java.util.HashSet<>(words)));
+    private void rebuildHardnessBuckets() {
+        synchronized (hardnessRankings) {
+            var bank = wordBank;
+            Map<WordLength, HardnessBuckets> rebuilt = new EnumMap<>(WordLength.class);
+            hardnessRankings.forEach((wordLength, ranking) -> {
+                PackedWordIndex answers = bank.index(wordLength);
+                if (answers != null && !answers.isEmpty() && !ranking.isEmpty()) {
+                    rebuilt.put(wordLength, HardnessBuckets.of(answers, ranking, noRepeats ? random : null));
                 }
             });
-
-        } catch (Exception e) {
-            System.err.println("Failed to load word bank from file: " + e.getMessage());
-            // Fallback will be handled in the constructor
+            hardnessBuckets = rebuilt;
         }
     }
 
+    /**
+     * Fixed view over the current bank; later reloads do not affect it.
+     */
+    @Override
+    public PrefixWordService snapshot() {
+        var snapshot = new DictionaryService(wordBank, false);
+        snapshot.hardnessBuckets = hardnessBuckets;
+        return snapshot;
+    }
+
     @Override
     public String pickWord(WordLength wordLength) {
-        Set<String> words = WORD_BANK.get(wordLength);
+        PackedWordIndex words = wordBank.index(wordLength);
         if (words == null || words.isEmpty()) {
             throw new IllegalStateException("No words available for length " + wordLength.length());
         }
-        int idx = random.nextInt(words.size());
-        return words.toArray(new String[0])[idx];
+        int index = noRepeats ? shuffleBagFor(words).next() : random.nextInt(words.size());
+        return words.wordAt(index);
+    }
+
+    /**
+     * O(1) pick from a band of the precomputed ranking. Lengths without a ranking, empty bands
+     * and a null band fall back to a uniform pick.
+     */
+    @Override
+    public String pickWord(WordLength wordLength, HardnessBand band) {
+        var buckets = band == null ? null : hardnessBuckets.get(wordLength);
+        String word = buckets == null ? null : buckets.pick(band, random);
+        return word != null ? word : pickWord(wordLength);
+    }
+
+    private ShuffleBag shuffleBagFor(PackedWordIndex words) {
+        synchronized (shuffleBags) {
+            var bag = shuffleBags.get(words.wordLength());
+            if (bag == null || bag.size() != words.size()) {
+                bag = new ShuffleBag(words.size(), random);
+                shuffleBags.put(words.wordLength(), bag);
+            }
+            return bag;
+        }
     }
 
     @Override
     public boolean isValidWord(String word, WordLength wordLength) {
-        if (word == null || word.isEmpty()) {
+        return isValidWord((CharSequence) word, wordLength);
+    }
+
+    /**
+     * Allocation-free validation against the answer list and the allowed-guess list;
+     * case-insensitive and usable directly over a buffer of typed keys.
+     */
+    public boolean isValidWord(CharSequence word, WordLength wordLength) {
+        if (word == null || word.length() == 0) {
             return false;
         }
-        Set<String> words = WORD_BANK.get(wordLength);
-        return words != null && words.contains(word.toUpperCase());
+        return wordBank.isValid(word, wordLength);
+    }
+
+    @Override
+    public boolean hasPrefix(CharSequence prefix, WordLength wordLength) {
+        return wordBank.hasPrefix(prefix, wordLength);
+    }
+
+    @Override
+    public List<String> completions(CharSequence prefix, WordLength wordLength, int limit) {
+        return wordBank.completions(prefix, wordLength, limit);
     }
 }
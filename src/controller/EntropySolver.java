@@ -0,0 +1,151 @@
+package controller;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.stream.IntStream;
+import model.GuessResult;
+import model.PackedWord;
+import model.rules.FeedbackPattern;
+import model.rules.PatternMatrix;
+
+/**
+ * Picks the guess that maximizes expected information (Shannon entropy of the feedback split)
+ * over the answers still consistent with a player's feedback (see {@link CandidateTracker}).
+ * Guess rows are scored in parallel. Expert games, which only reveal letter counts, use
+ * {@link ExpertSolver} instead.
+ */
+final class EntropySolver implements CandidateSolver {
+
+    private static final ThreadLocal<int[]> HISTOGRAM =
+            ThreadLocal.withInitial(() -> new int[FeedbackPattern.patternCount(PackedWord.MAX_LENGTH)]);
+
+    private final PatternMatrix matrix;
+    private final int[] scratch = new int[26];
+
+    EntropySolver(PatternMatrix matrix) {
+        this.matrix = matrix;
+    }
+
+    @Override
+    public int length() {
+        return matrix.length();
+    }
+
+    @Override
+    public int guessCount() {
+        return matrix.guessCount();
+    }
+
+    @Override
+    public int guessWord(int guessRow) {
+        return matrix.guessWord(guessRow);
+    }
+
+    @Override
+    public int guessIndexOf(int packedGuess) {
+        return matrix.guessIndexOf(packedGuess);
+    }
+
+    @Override
+    public int answerCount() {
+        return matrix.answerCount();
+    }
+
+    @Override
+    public int answerWord(int answer) {
+        return matrix.answerWord(answer);
+    }
+
+    @Override
+    public int keyOf(int guessRow, int answer) {
+        return matrix.pattern(guessRow, answer);
+    }
+
+    /**
+     * Guesses outside the matrix are scored on the fly.
+     */
+    @Override
+    public synchronized void retain(BitSet candidates, GuessResult result) {
+        int packedGuess = PackedWord.encode(result.guess());
+        if (packedGuess == PackedWord.INVALID) {
+            return;
+        }
+        int observed = observedKey(result);
+        int row = matrix.guessIndexOf(packedGuess);
+        for (int a = candidates.nextSetBit(0); a >= 0; a = candidates.nextSetBit(a + 1)) {
+            int pattern = row >= 0
+                    ? matrix.pattern(row, a)
+                    : FeedbackPattern.evaluate(packedGuess, matrix.answerWord(a), matrix.length(), scratch);
+            if (pattern != observed) {
+                candidates.clear(a);
+            }
+        }
+    }
+
+    @Override
+    public String bestGuess(int[] candidates) {
+        if (candidates.length == 0) {
+            return null;
+        }
+        if (candidates.length <= 2) {
+            return decode(matrix.answerWord(candidates[0]));
+        }
+        double[] scores = new double[matrix.guessCount()];
+        IntStream.range(0, scores.length).parallel().forEach(g -> scores[g] = score(g, candidates));
+
+        int best = -1;
+        boolean bestIsCandidate = false;
+        for (int g = 0; g < scores.length; g++) {
+            boolean isCandidate = isCandidate(g, candidates);
+            // Prefer guesses that could win outright when the information is equal
+            if (best < 0 || scores[g] > scores[best] + 1e-9
+                    || (Math.abs(scores[g] - scores[best]) <= 1e-9 && isCandidate && !bestIsCandidate)) {
+                best = g;
+                bestIsCandidate = isCandidate;
+            }
+        }
+        return decode(matrix.guessWord(best));
+    }
+
+    /**
+     * Expected information of the guess row in bits.
+     */
+    @Override
+    public double score(int guessRow, int[] candidates) {
+        int[] histogram = HISTOGRAM.get();
+        int keys = keyCount();
+        for (int a : candidates) {
+            histogram[matrix.pattern(guessRow, a)]++;
+        }
+        double n = candidates.length;
+        double sum = 0;
+        for (int k = 0; k < keys; k++) {
+            int count = histogram[k];
+            if (count > 0) {
+                sum += count * Math.log(count);
+                histogram[k] = 0;
+            }
+        }
+        return (Math.log(n) - sum / n) / Math.log(2);
+    }
+
+    private boolean isCandidate(int guessRow, int[] candidates) {
+        int packed = matrix.guessWord(guessRow);
+        int column = matrix.answerIndexOf(packed);
+        return column >= 0 && Arrays.binarySearch(candidates, column) >= 0;
+    }
+
+    @Override
+    public int observedKey(GuessResult result) {
+        return result.patternCode();
+    }
+
+    @Override
+    public int keyCount() {
+        return FeedbackPattern.patternCount(matrix.length());
+    }
+
+    private String decode(int packed) {
+        return PackedWord.decode(packed, matrix.length());
+    }
+}
@@ -0,0 +1,223 @@
+package controller;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.stream.IntStream;
+import model.GuessResult;
+import model.PackedWord;
+
+/**
+ * Consistency solver for expert games, where feedback is only the number of shared letters and
+ * whether the guess was exact. That number depends only on the two words' letter multisets, so
+ * every word is reduced once to a signature (its letters sorted, packed like a {@link PackedWord}).
+ * Counting shared letters is then a merge of two sorted signatures; no pattern matrix is needed.
+ *
+ * Guesses are chosen by the smallest expected number of remaining candidates, scored in parallel;
+ * ties go to the smaller worst case (minimax), then to guesses that could still win.
+ */
+final class ExpertSolver implements CandidateSolver {
+
+    private static final ThreadLocal<int[]> BUCKETS = ThreadLocal.withInitial(() -> new int[PackedWord.MAX_LENGTH + 2]);
+
+    private final int length;
+    private final int[] guesses;
+    private final int[] answers;
+    private final int[] guessSignatures;
+    private final int[] answerSignatures;
+
+    /**
+     * @param guesses sorted packed allowed guesses
+     * @param answers sorted packed answers
+     */
+    ExpertSolver(int[] guesses, int[] answers, int length) {
+        this.length = length;
+        this.guesses = guesses.clone();
+        this.answers = answers.clone();
+        this.guessSignatures = signatures(this.guesses, length);
+        this.answerSignatures = signatures(this.answers, length);
+    }
+
+    private static int[] signatures(int[] words, int length) {
+        int[] signatures = new int[words.length];
+        for (int i = 0; i < words.length; i++) {
+            signatures[i] = signature(words[i], length);
+        }
+        return signatures;
+    }
+
+    /**
+     * The word's letters in ascending order, packed five bits per letter.
+     */
+    static int signature(int packedWord, int length) {
+        int[] letters = new int[length];
+        for (int i = 0; i < length; i++) {
+            letters[i] = (packedWord >>> (PackedWord.BITS_PER_LETTER * (length - 1 - i))) & 31;
+        }
+        Arrays.sort(letters);
+        int signature = 0;
+        for (int letter : letters) {
+            signature = (signature << PackedWord.BITS_PER_LETTER) | letter;
+        }
+        return signature;
+    }
+
+    /**
+     * Size of the multiset intersection of two signatures: the expert "correct letters" count.
+     */
+    static int sharedLetters(int signatureA, int signatureB, int length) {
+        int shared = 0;
+        int i = 0;
+        int j = 0;
+        while (i < length && j < length) {
+            int a = (signatureA >>> (PackedWord.BITS_PER_LETTER * (length - 1 - i))) & 31;
+            int b = (signatureB >>> (PackedWord.BITS_PER_LETTER * (length - 1 - j))) & 31;
+            if (a == b) {
+                shared++;
+                i++;
+                j++;
+            } else if (a < b) {
+                i++;
+            } else {
+                j++;
+            }
+        }
+        return shared;
+    }
+
+    @Override
+    public int length() {
+        return length;
+    }
+
+    @Override
+    public int guessCount() {
+        return guesses.length;
+    }
+
+    @Override
+    public int guessWord(int guessRow) {
+        return guesses[guessRow];
+    }
+
+    @Override
+    public int guessIndexOf(int packedGuess) {
+        return Arrays.binarySearch(guesses, packedGuess);
+    }
+
+    @Override
+    public int answerCount() {
+        return answers.length;
+    }
+
+    @Override
+    public int answerWord(int answer) {
+        return answers[answer];
+    }
+
+    /**
+     * Shared-letter count, or length + 1 for an exact match.
+     */
+    @Override
+    public int keyCount() {
+        return length + 2;
+    }
+
+    @Override
+    public int keyOf(int guessRow, int answer) {
+        if (guesses[guessRow] == answers[answer]) {
+            return length + 1;
+        }
+        return sharedLetters(guessSignatures[guessRow], answerSignatures[answer], length);
+    }
+
+    @Override
+    public int observedKey(GuessResult result) {
+        return result.exactMatch() ? length + 1 : result.correctLetterCount();
+    }
+
+    @Override
+    public void retain(BitSet candidates, GuessResult result) {
+        int packedGuess = PackedWord.encode(result.guess());
+        if (packedGuess == PackedWord.INVALID) {
+            return;
+        }
+        if (result.exactMatch()) {
+            int hit = Arrays.binarySearch(answers, packedGuess);
+            boolean wasCandidate = hit >= 0 && candidates.get(hit);
+            candidates.clear();
+            if (wasCandidate) candidates.set(hit);
+            return;
+        }
+        int guessSignature = signature(packedGuess, length);
+        int count = result.correctLetterCount();
+        for (int a = candidates.nextSetBit(0); a >= 0; a = candidates.nextSetBit(a + 1)) {
+            if (answers[a] == packedGuess || sharedLetters(guessSignature, answerSignatures[a], length) != count) {
+                candidates.clear(a);
+            }
+        }
+    }
+
+    /**
+     * Negated expected number of candidates left after the guess, so higher is better.
+     */
+    @Override
+    public double score(int guessRow, int[] candidates) {
+        int[] buckets = BUCKETS.get();
+        for (int a : candidates) {
+            buckets[keyOf(guessRow, a)]++;
+        }
+        long sumOfSquares = 0;
+        for (int k = 0; k < keyCount(); k++) {
+            sumOfSquares += (long) buckets[k] * buckets[k];
+            buckets[k] = 0;
+        }
+        return -(double) sumOfSquares / candidates.length;
+    }
+
+    private int worstCase(int guessRow, int[] candidates) {
+        int[] buckets = BUCKETS.get();
+        int worst = 0;
+        for (int a : candidates) {
+            worst = Math.max(worst, ++buckets[keyOf(guessRow, a)]);
+        }
+        Arrays.fill(buckets, 0);
+        return worst;
+    }
+
+    @Override
+    public String bestGuess(int[] candidates) {
+        if (candidates.length == 0) {
+            return null;
+        }
+        if (candidates.length <= 2) {
+            return PackedWord.decode(answers[candidates[0]], length);
+        }
+        double[] scores = new double[guesses.length];
+        IntStream.range(0, scores.length).parallel().forEach(g -> scores[g] = score(g, candidates));
+
+        int best = -1;
+        int bestWorst = Integer.MAX_VALUE;
+        boolean bestIsCandidate = false;
+        for (int g = 0; g < scores.length; g++) {
+            if (best >= 0 && scores[g] < scores[best] - 1e-9) {
+                continue;
+            }
+            int worst = worstCase(g, candidates);
+            boolean isCandidate = isCandidate(g, candidates);
+            boolean better = best < 0 || scores[g] > scores[best] + 1e-9
+                    || worst < bestWorst
+                    || (worst == bestWorst && isCandidate && !bestIsCandidate);
+            if (better) {
+                best = g;
+                bestWorst = worst;
+                bestIsCandidate = isCandidate;
+            }
+        }
+        return PackedWord.decode(guesses[best], length);
+    }
+
+    private boolean isCandidate(int guessRow, int[] candidates) {
+        int column = Arrays.binarySearch(answers, guesses[guessRow]);
+        return column >= 0 && Arrays.binarySearch(candidates, column) >= 0;
+    }
+}
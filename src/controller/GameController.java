@@ -1,5 +1,8 @@
 package controller;
 
+import java.util.Collections;
+import java.util.Map;
+import java.util.WeakHashMap;
 import model.GameState;
 import model.GameState.GameConfig;
 import model.GamePlayer;
@@ -8,7 +11,9 @@ import model.GuessOutcome;
 import model.GuessResult;
 import model.WordChoice;
 import model.enums.Difficulty;
+import model.enums.GameMode;
 import model.enums.GameStatus;
+import model.enums.HardnessBand;
 import model.enums.WordLength;
 import model.rules.ExpertEvaluator;
 import model.rules.GuessEvaluator;
@@ -18,30 +23,84 @@ import model.rules.NormalEvaluator;
 public class GameController {
 
     private final WordService wordService;
+    private final Map<String, WordService> wordLists;
+    // Each running game keeps the dictionary snapshot it started with, even across reloads.
+    private final Map<GameState, WordService> gameWordServices = Collections.synchronizedMap(new WeakHashMap<>());
     private final GuessEvaluator normalEvaluator = new NormalEvaluator();
     private final GuessEvaluator hardEvaluator = new HardEvaluator();
     private final GuessEvaluator expertEvaluator = new ExpertEvaluator();
 
     public GameController(WordService wordService) {
+        this(wordService, Map.of());
+    }
+
+    /**
+     * @param wordLists named word services selectable through {@link GameConfig#wordList()};
+     *                  configs without a (known) word list use the default service.
+     */
+    public GameController(WordService wordService, Map<String, ? extends WordService> wordLists) {
         this.wordService = wordService;
+        this.wordLists = Map.copyOf(wordLists);
+    }
+
+    WordService wordServiceFor(GameConfig config) {
+        if (config == null || config.wordList() == null) {
+            return wordService;
+        }
+        return wordLists.getOrDefault(config.wordList(), wordService);
+    }
+
+    private WordService wordServiceFor(GameState gameState) {
+        var pinned = gameWordServices.get(gameState);
+        return pinned != null ? pinned : wordServiceFor(gameState.getConfig());
     }
 
     public GameState startNewGame(GameConfig config, WordChoice playerOneWord, WordChoice playerTwoWord) {
         var gameState = new GameState(config);
+        var words = wordServiceFor(config);
+        gameWordServices.put(gameState, words.snapshot());
 
         WordChoice actualPlayerOneWord = playerOneWord;
         if (playerOneWord != null && playerOneWord.source() == model.enums.WordSource.rollTheDice) {
-            actualPlayerOneWord = new WordChoice(wordService.pickWord(config.wordLength()), model.enums.WordSource.rollTheDice);
+            actualPlayerOneWord = new WordChoice(words.pickWord(config.wordLength(), bandFor(config.difficulty())), model.enums.WordSource.rollTheDice);
+        } else if (playerOneWord == null && hasComputerOpponent(config)) {
+            // The computer races against a secret word of its own.
+            actualPlayerOneWord = new WordChoice(words.pickWord(config.wordLength(), bandFor(config.difficulty())), model.enums.WordSource.rollTheDice);
         }
 
         WordChoice actualPlayerTwoWord = playerTwoWord;
         if (playerTwoWord != null && playerTwoWord.source() == model.enums.WordSource.rollTheDice) {
-            actualPlayerTwoWord = new WordChoice(wordService.pickWord(config.wordLength()), model.enums.WordSource.rollTheDice);
+            actualPlayerTwoWord = new WordChoice(words.pickWord(config.wordLength(), bandFor(config.difficulty())), model.enums.WordSource.rollTheDice);
         }
         gameState.startWithChosenWords(config, actualPlayerOneWord, actualPlayerTwoWord);
         return gameState;
     }
 
+    /**
+     * Hardness band that rolled words are drawn from; normal games draw from the whole list.
+     */
+    static HardnessBand bandFor(Difficulty difficulty) {
+        if (difficulty == null) {
+            return null;
+        }
+        return switch (difficulty) {
+            case normal -> null;
+            case hard, expert -> HardnessBand.hard;
+        };
+    }
+
+    static boolean hasComputerOpponent(GameConfig config) {
+        return config != null && config.mode() == GameMode.solo
+                && config.playerTwo() != null && !config.playerTwo().human();
+    }
+
+    /**
+     * Word bank pinned for this game, or null when its word service is not dictionary-backed.
+     */
+    WordBank wordBankFor(GameState gameState) {
+        return wordServiceFor(gameState) instanceof DictionaryService dictionary ? dictionary.getWordBank() : null;
+    }
+
     public String pickWord(WordLength wordLength) {
         return wordService.pickWord(wordLength);
     }
@@ -50,6 +109,20 @@ public class GameController {
         return wordService.isValidWord(word, wordLength);
     }
 
+    /**
+     * True if some word of the game's length starts with the typed letters. Services without
+     * prefix support cannot rule anything out, so they always answer true.
+     */
+    public boolean hasPrefix(GameState gameState, CharSequence typed) {
+        if (gameState == null || typed == null) {
+            return true;
+        }
+        if (wordServiceFor(gameState) instanceof PrefixWordService prefixService) {
+            return prefixService.hasPrefix(typed, gameState.getConfig().wordLength());
+        }
+        return true;
+    }
+
     public GuessOutcome submitGuess(GameState gameState, GamePlayer player, String rawGuess) {
         if (gameState == null) {
             throw new IllegalStateException("Start a new game first.");
@@ -72,7 +145,7 @@ public class GameController {
         if (guess.length() != expectedLength) {
             throw new IllegalArgumentException("Guess must be " + expectedLength + " letters.");
         }
-        if (!wordService.isValidWord(guess, gameState.getConfig().wordLength())) {
+        if (!wordServiceFor(gameState).isValidWord(guess, gameState.getConfig().wordLength())) {
             throw new IllegalArgumentException("'" + guess + "' is not a valid word.");
         }
 
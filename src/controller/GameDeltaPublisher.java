@@ -0,0 +1,174 @@
+package controller;
+
+import controller.events.FinishReasonView;
+import controller.events.FinishStateView;
+import controller.events.GameDelta;
+import controller.events.GameDeltaListener;
+import controller.events.GameStatusView;
+import controller.events.GameUiModel;
+import controller.events.KeyboardView;
+import controller.events.LetterFeedbackView;
+import controller.events.TimerView;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import model.GameState;
+
+/**
+ * Turns a session's publishes into {@link GameDelta}s for its delta listeners.
+ *
+ * It remembers what it last sent (guess count, status, turn and per-letter keyboard state), so
+ * each publish only maps the guesses appended since and compares the 26 keys against the game's
+ * incrementally kept letter states; the cost does not grow with the length of the game.
+ * Snapshots are built only for a new game, a new listener or a resync. Callers hold the
+ * session's lock.
+ */
+final class GameDeltaPublisher {
+
+    /**
+     * Everything a {@link GameDelta.StatusChanged} carries except its numbering.
+     */
+    private record Status(GameStatusView status, String winner, String provisionalWinner,
+                          Boolean winnerKnewWord, FinishStateView playerOneFinishState,
+                          FinishStateView playerTwoFinishState, FinishReasonView finishReason) { }
+
+    private final GameUiModelMapper mapper;
+    private final KeyboardViewBuilder keyboardBuilder;
+    private final List<GameDeltaListener> listeners = new ArrayList<>();
+
+    private long sequence;
+    private String gameId;
+    private int guessesSent;
+    private Status lastStatus;
+    private String lastTurn;
+    private KeyboardView keys;
+
+    GameDeltaPublisher(GameUiModelMapper mapper) {
+        this.mapper = mapper;
+        this.keyboardBuilder = new KeyboardViewBuilder();
+    }
+
+    boolean isEmpty() {
+        return listeners.isEmpty();
+    }
+
+    /**
+     * Subscribes the listener, sending it a snapshot if a game is running.
+     */
+    void add(GameDeltaListener listener, GameState state, GameUiModel snapshot) {
+        if (state != null && (listeners.isEmpty() || !state.getId().equals(gameId))) {
+            // Nothing was published while nobody listened, so what was last sent is stale
+            track(state);
+        }
+        listeners.add(listener);
+        if (state != null) {
+            listener.onDelta(new GameDelta.Snapshot(gameId, sequence, snapshot));
+        }
+    }
+
+    void remove(GameDeltaListener listener) {
+        listeners.remove(listener);
+    }
+
+    /**
+     * Sends one listener a fresh snapshot, e.g. after it noticed a gap in the sequence.
+     */
+    void resync(GameDeltaListener listener, GameUiModel snapshot) {
+        if (gameId != null && snapshot != null && listeners.contains(listener)) {
+            listener.onDelta(new GameDelta.Snapshot(gameId, sequence, snapshot));
+        }
+    }
+
+    /**
+     * Starts tracking a new game and sends everyone its snapshot.
+     */
+    void gameStarted(GameState state, GameUiModel snapshot) {
+        track(state);
+        send(new GameDelta.Snapshot(gameId, ++sequence, snapshot));
+    }
+
+    private void track(GameState state) {
+        gameId = state.getId();
+        guessesSent = state.guessCount();
+        keys = keyboardBuilder.build(state);
+        lastStatus = status(state, null);
+        lastTurn = mapper.name(state.getCurrentTurn());
+    }
+
+    /**
+     * Sends whatever changed since the last publish.
+     */
+    void publish(GameState state, FinishReasonView finishReason, CandidateTracker candidates) {
+        if (state == null || !state.getId().equals(gameId)) {
+            return;
+        }
+        var config = state.getConfig();
+        int guessCount = state.guessCount();
+        for (int i = guessesSent; i < guessCount; i++) {
+            var guess = state.guessAt(i);
+            Integer p1Left = candidates != null && config.playerOne() != null ? candidates.remaining(config.playerOne()) : null;
+            Integer p2Left = candidates != null && config.playerTwo() != null ? candidates.remaining(config.playerTwo()) : null;
+            send(new GameDelta.GuessAppended(gameId, ++sequence, i, mapper.toView(config, guess), p1Left, p2Left));
+        }
+        if (guessCount > guessesSent) {
+            publishKeyboard(keyboardBuilder.build(state));
+        }
+        guessesSent = guessCount;
+
+        // A finish reason is only given with the finish event itself; keep it afterwards
+        var status = status(state, finishReason != null ? finishReason : lastStatus.finishReason());
+        if (!status.equals(lastStatus)) {
+            lastStatus = status;
+            send(new GameDelta.StatusChanged(gameId, ++sequence, status.status(), status.winner(), status.provisionalWinner(),
+                    status.winnerKnewWord(), status.playerOneFinishState(), status.playerTwoFinishState(), status.finishReason()));
+        }
+        String turn = mapper.name(state.getCurrentTurn());
+        if (!Objects.equals(turn, lastTurn)) {
+            lastTurn = turn;
+            send(new GameDelta.TurnChanged(gameId, ++sequence, turn));
+        }
+    }
+
+    private void publishKeyboard(KeyboardView current) {
+        Map<Character, LetterFeedbackView> changed = new HashMap<>();
+        for (char c = 'A'; c <= 'Z'; c++) {
+            if (current.stateOf(c) != keys.stateOf(c)) {
+                changed.put(c, current.stateOf(c));
+            }
+        }
+        keys = current;
+        if (!changed.isEmpty()) {
+            send(new GameDelta.KeyboardChanged(gameId, ++sequence, Map.copyOf(changed)));
+        }
+    }
+
+    void publishTimer(TimerView timer) {
+        for (GameDeltaListener l : listeners) {
+            l.onTimerEvent(timer);
+        }
+    }
+
+    void reset() {
+        gameId = null;
+    }
+
+    private Status status(GameState state, FinishReasonView finishReason) {
+        var config = state.getConfig();
+        return new Status(
+                mapper.mapStatus(state.getStatus()),
+                state.getWinner() == null ? null : mapper.name(state.getWinner()),
+                state.getProvisionalWinner() == null ? null : mapper.name(state.getProvisionalWinner()),
+                state.getWinnerKnewWord(),
+                mapper.mapFinishState(state.getPlayerFinishState(config.playerOne())),
+                mapper.mapFinishState(state.getPlayerFinishState(config.playerTwo())),
+                finishReason);
+    }
+
+    private void send(GameDelta delta) {
+        for (GameDeltaListener l : listeners) {
+            l.onDelta(delta);
+        }
+    }
+}
@@ -0,0 +1,96 @@
+package controller;
+
+import controller.events.GameEventListener;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+import model.GameState;
+import model.GameState.GameConfig;
+import model.WordChoice;
+
+/**
+ * Hosts many games in one process, one {@link GameSessionService} per game, keyed by
+ * {@link GameState#getId()}.
+ *
+ * Routing is a lock-free map lookup; each session serializes its own intents and timer callbacks,
+ * so unrelated games never contend. Sessions stay registered until {@link #endGame} is called.
+ */
+public final class GameSessionRegistry {
+
+    private final Supplier<GameSessionService> sessionFactory;
+    private final ConcurrentHashMap<String, GameSessionService> sessions = new ConcurrentHashMap<>();
+
+    /**
+     * @param sessionFactory creates a fresh session, each with its own turn timer (for many games,
+     *                       from one shared {@link HashedWheelTimer}); expensive state such as
+     *                       pattern matrices and the opening book should be shared
+     */
+    public GameSessionRegistry(Supplier<GameSessionService> sessionFactory) {
+        this.sessionFactory = Objects.requireNonNull(sessionFactory, "sessionFactory");
+    }
+
+    /**
+     * Starts a game in a new session and returns its id.
+     */
+    public String startGame(GameConfig config, WordChoice playerOneWord, WordChoice playerTwoWord) {
+        return startGame(config, playerOneWord, playerTwoWord, null);
+    }
+
+    /**
+     * Starts a game in a new session with a listener attached before the first event is published.
+     */
+    public String startGame(GameConfig config, WordChoice playerOneWord, WordChoice playerTwoWord,
+                            GameEventListener listener) {
+        var session = sessionFactory.get();
+        session.addEventListener(listener);
+        var state = session.startNewGame(config, playerOneWord, playerTwoWord);
+        sessions.put(state.getId(), session);
+        return state.getId();
+    }
+
+    public void submitGuess(String gameId, String guess) {
+        session(gameId).submitGuess(guess);
+    }
+
+    public void applyWinnerKnowledge(String gameId, boolean winnerKnewWord) {
+        session(gameId).applyWinnerKnowledge(winnerKnewWord);
+    }
+
+    public String requestHint(String gameId, long budgetMillis) {
+        return session(gameId).requestHint(budgetMillis);
+    }
+
+    public void addEventListener(String gameId, GameEventListener listener) {
+        session(gameId).addEventListener(listener);
+    }
+
+    /**
+     * Removes the game and releases its session; unknown ids are ignored.
+     */
+    public void endGame(String gameId) {
+        var session = gameId == null ? null : sessions.remove(gameId);
+        if (session != null) {
+            session.close();
+        }
+    }
+
+    public boolean contains(String gameId) {
+        return gameId != null && sessions.containsKey(gameId);
+    }
+
+    public int size() {
+        return sessions.size();
+    }
+
+    GameState gameState(String gameId) {
+        return session(gameId).getCurrentGameState();
+    }
+
+    private GameSessionService session(String gameId) {
+        var session = gameId == null ? null : sessions.get(gameId);
+        if (session == null) {
+            throw new IllegalArgumentException("No game with id " + gameId);
+        }
+        return session;
+    }
+}
@@ -2,6 +2,13 @@ package controller;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 import model.GameState;
 import model.GameState.GameConfig;
 import model.GamePlayer;
@@ -11,6 +18,7 @@ import model.enums.GameStatus;
 import model.enums.WordLength;
 import controller.events.PlayerSlot;
 import controller.TurnTimer;
+import controller.events.GameDeltaListener;
 import controller.events.GameEventListener;
 import controller.events.GameEventKind;
 import controller.GameUiModelMapper;
@@ -18,35 +26,148 @@ import controller.KeyboardViewBuilder;
 
 /**
  * Orchestrates the lifecycle of a single game session and fans out state/events.
+ * Intents, timer callbacks and hint updates are serialized on the session's own monitor, so
+ * sessions hosted side by side (see {@link GameSessionRegistry}) never contend with each other.
  */
 public class GameSessionService implements TurnTimer.Listener {
 
+    // A hint may use at most 1/HINT_CLOCK_SHARE of the player's remaining time.
+    private static final int HINT_CLOCK_SHARE = 100;
+    private static final int HARDEST_PLAYED_WORDS = 10;
+    private static final long NO_PENDING_HINT = -1;
+    private static final long BACKGROUND_IDLE_SECONDS = 5;
+
     private final GameController gameController;
     private final TurnTimer turnTimer;
     private final GameUiModelMapper uiMapper;
+    private final PatternMatrixCache patternMatrices;
+    private final OpeningBook openingBook;
+    private final ComputerOpponent computerOpponent = new ComputerOpponent();
+    private final HintService hintService = new HintService();
+    private final WordStatsAggregator wordStats;
+    private final Executor background;
 
     private GameState currentGameState;
+    // Built in the background on first need (see requestTracker); null until then or if unavailable
+    private CandidateTracker candidateTracker;
+    private boolean trackerRequested;
+    private long pendingHintBudget = NO_PENDING_HINT;
+    private int computerTurnsOwed;
+    private volatile String currentHint;
+    private boolean statsRecorded;
     private final List<GameEventListener> eventListeners = new ArrayList<>();
+    private final GameDeltaPublisher deltas;
 
     public GameSessionService(GameController gameController, TurnTimer turnTimer, GameUiModelMapper uiMapper) {
+        this(gameController, turnTimer, uiMapper, new PatternMatrixCache(null), OpeningBook.empty());
+    }
+
+    /**
+     * @param patternMatrices shared with other services that score guesses for the same word banks
+     * @param openingBook     precomputed early guesses; lines built for other word lists are ignored
+     */
+    public GameSessionService(GameController gameController, TurnTimer turnTimer, GameUiModelMapper uiMapper,
+                              PatternMatrixCache patternMatrices, OpeningBook openingBook) {
+        this(gameController, turnTimer, uiMapper, patternMatrices, openingBook, new WordStatsAggregator(HARDEST_PLAYED_WORDS));
+    }
+
+    /**
+     * @param wordStats collects the finished games; share one across sessions (e.g. in a
+     *                  {@link GameSessionRegistry}) so per-word statistics cover every game
+     */
+    public GameSessionService(GameController gameController, TurnTimer turnTimer, GameUiModelMapper uiMapper,
+                              PatternMatrixCache patternMatrices, OpeningBook openingBook, WordStatsAggregator wordStats) {
+        this(gameController, turnTimer, uiMapper, patternMatrices, openingBook, wordStats, newBackgroundExecutor());
+    }
+
+    /**
+     * Package-private constructor for tests to run background work (candidate tracking and the
+     * computer's turns) on an executor of their choosing.
+     */
+    GameSessionService(GameController gameController, TurnTimer turnTimer, GameUiModelMapper uiMapper,
+                       PatternMatrixCache patternMatrices, OpeningBook openingBook, WordStatsAggregator wordStats,
+                       Executor background) {
+        this.background = Objects.requireNonNull(background, "background");
         this.gameController = gameController;
         this.turnTimer = turnTimer;
         this.turnTimer.addListener(this);
         this.uiMapper = uiMapper;
+        this.deltas = new GameDeltaPublisher(uiMapper);
+        this.patternMatrices = patternMatrices;
+        this.openingBook = openingBook;
+        this.wordStats = Objects.requireNonNull(wordStats, "wordStats");
+    }
+
+    /**
+     * One thread per session that exits when idle, so thousands of idle sessions hold no threads.
+     */
+    private static ExecutorService newBackgroundExecutor() {
+        var executor = new ThreadPoolExecutor(1, 1, BACKGROUND_IDLE_SECONDS, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(), r -> {
+            Thread thread = new Thread(r, "GameSession");
+            thread.setDaemon(true);
+            return thread;
+        });
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
     }
 
-    public void addEventListener(GameEventListener listener) {
+    public synchronized void addEventListener(GameEventListener listener) {
         if (listener != null) {
             eventListeners.add(listener);
         }
     }
 
-    GameState getCurrentGameState() {
+    /**
+     * Subscribes to incremental changes; the listener gets a snapshot of the running game first.
+     */
+    public synchronized void addDeltaListener(GameDeltaListener listener) {
+        if (listener != null) {
+            deltas.add(listener, currentGameState, snapshot(null));
+        }
+    }
+
+    public synchronized void removeDeltaListener(GameDeltaListener listener) {
+        deltas.remove(listener);
+    }
+
+    /**
+     * Sends the listener a fresh snapshot, for when it has missed or cannot apply a delta.
+     */
+    public synchronized void resync(GameDeltaListener listener) {
+        deltas.resync(listener, snapshot(null));
+    }
+
+    /**
+     * Adds a listener that is called from its own thread (see {@link AsyncGameEventListener}), so it
+     * cannot stall guesses or the clock. The returned handle reports how far behind it runs.
+     */
+    public synchronized AsyncGameEventListener addAsyncEventListener(GameEventListener listener, int queueCapacity) {
+        var async = new AsyncGameEventListener(listener, queueCapacity);
+        eventListeners.add(async);
+        return async;
+    }
+
+    synchronized GameState getCurrentGameState() {
         return currentGameState;
     }
 
-    public GameState startNewGame(GameConfig config, WordChoice playerOneWord, WordChoice playerTwoWord) {
+    /**
+     * Per-word results of the games this session has finished.
+     */
+    public WordStatsAggregator wordStats() {
+        return wordStats;
+    }
+
+    public synchronized GameState startNewGame(GameConfig config, WordChoice playerOneWord, WordChoice playerTwoWord) {
+        hintService.cancel();
+        currentHint = null;
         currentGameState = gameController.startNewGame(config, playerOneWord, playerTwoWord);
+        statsRecorded = false;
+        candidateTracker = null;
+        trackerRequested = false;
+        pendingHintBudget = NO_PENDING_HINT;
+        computerTurnsOwed = 0;
         if (config.timerDuration().isTimed()) {
             turnTimer.reset();
             int gameTime = config.timerDuration().seconds();
@@ -64,20 +185,39 @@ public class GameSessionService implements TurnTimer.Listener {
             turnTimer.reset();
         }
         publishState(GameEventKind.gameStarted);
+        if (GameController.hasComputerOpponent(config)) {
+            requestTracker();
+        }
         return currentGameState;
     }
 
-    public void submitGuess(String guess) {
+    public synchronized void submitGuess(String guess) {
         if (currentGameState == null) {
             throw new IllegalStateException("Start a new game first.");
         }
         if (currentGameState.getStatus() == GameStatus.awaitingWinnerKnowledge) {
             throw new IllegalStateException("Awaiting winner knowledge; no guesses allowed.");
         }
-        GamePlayer player = currentGameState.getCurrentTurn();
+        submit(currentGameState.getCurrentTurn(), guess);
+    }
+
+    /**
+     * Validates, applies and publishes one player's guess and moves the clock on; shared by the
+     * players' intents and the computer opponent.
+     */
+    private void submit(GamePlayer player, String guess) {
+        GamePlayer turnBefore = currentGameState.getCurrentTurn();
         GuessOutcome outcome = gameController.submitGuess(currentGameState, player, guess);
-        GameStatus newStatus = outcome.status();
-        GamePlayer nextTurn = outcome.nextTurn();
+        if (player.human()) {
+            hintService.cancel();
+            currentHint = null;
+        } else if (outcome.status() == GameStatus.finished) {
+            // The computer never needs the "did you know the word" check.
+            currentGameState.applyWinnerKnowledge(true);
+        }
+        recordCandidates(outcome);
+        GameStatus newStatus = currentGameState.getStatus();
+        GamePlayer nextTurn = currentGameState.getCurrentTurn();
 
         publishState(GameEventKind.gameStateUpdated);
 
@@ -88,19 +228,203 @@ public class GameSessionService implements TurnTimer.Listener {
             // Pause timers while waiting for winner knowledge response.
             turnTimer.stop();
             publishState(GameEventKind.gameFinished);
-        } else if (currentGameState.getConfig().timerDuration().isTimed() && nextTurn != null && nextTurn != player) {
+        } else if (currentGameState.getConfig().timerDuration().isTimed() && nextTurn != null && nextTurn != turnBefore) {
             var slot = slotFor(nextTurn);
             if (slot != null) {
                 turnTimer.start(slot);
             }
         }
+
+        if (newStatus == GameStatus.inProgress && player.human()
+                && GameController.hasComputerOpponent(currentGameState.getConfig())) {
+            scheduleComputerTurn();
+        }
+    }
+
+    /**
+     * The computer answers each human guess in a solo race with a guess of its own. Its search
+     * runs on the session's background thread without the session lock, so the human's input
+     * and clock stay live; the guess then goes through {@link #submit} like any other.
+     */
+    private void scheduleComputerTurn() {
+        if (candidateTracker == null) {
+            // Played as soon as the tracker is ready
+            computerTurnsOwed++;
+            requestTracker();
+            return;
+        }
+        GameState game = currentGameState;
+        CandidateTracker tracker = candidateTracker;
+        GamePlayer computer = game.getConfig().playerTwo();
+        try {
+            background.execute(() -> {
+                String guess = computerOpponent.nextGuess(tracker, computer);
+                if (guess != null) {
+                    submitComputerGuess(game, computer, guess);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            // Session closed
+        }
     }
 
-    public void reset() {
+    private synchronized void submitComputerGuess(GameState game, GamePlayer computer, String guess) {
+        // The human may have finished the race or started another game meanwhile
+        if (game != currentGameState || game.getStatus() != GameStatus.inProgress) {
+            return;
+        }
+        try {
+            submit(computer, guess);
+        } catch (RuntimeException e) {
+            System.err.println("Computer guess " + guess + " rejected: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Starts tracking remaining answers per player, once per game and only when the game's words
+     * come from a known word bank. Only games against the computer and hint requests need it.
+     * The pattern matrix behind it can take long to build and can fail (a list too large for
+     * memory, a broken cache file), so it is built off the caller's thread; on failure the game
+     * simply goes on without counts, hints or computer guesses.
+     */
+    private void requestTracker() {
+        if (trackerRequested || currentGameState == null) {
+            return;
+        }
+        trackerRequested = true;
+        GameState game = currentGameState;
+        WordBank bank = gameController.wordBankFor(game);
+        if (bank == null) {
+            return;
+        }
+        var config = game.getConfig();
+        try {
+            background.execute(() -> {
+                CandidateSolver solver;
+                try {
+                    solver = CandidateSolver.create(bank, config.wordLength(), config.difficulty(), patternMatrices);
+                } catch (RuntimeException e) {
+                    System.err.println("Candidate tracking unavailable: " + e.getMessage());
+                    return;
+                }
+                trackerReady(game, solver);
+            });
+        } catch (RejectedExecutionException e) {
+            // Session closed
+        }
+    }
+
+    /**
+     * Installs the tracker if its game is still running, catching it up on the guesses so far and
+     * serving a hint or computer turn that waited for it.
+     */
+    private synchronized void trackerReady(GameState game, CandidateSolver solver) {
+        if (game != currentGameState) {
+            return;
+        }
+        var tracker = new CandidateTracker(solver, openingBook.line(solver, game.getConfig().difficulty()));
+        for (int i = 0; i < game.guessCount(); i++) {
+            var entry = game.guessAt(i);
+            tracker.record(entry.player(), entry.result());
+        }
+        candidateTracker = tracker;
+        if (!isAcceptingGuesses(game.getStatus())) {
+            return;
+        }
+        publishState(GameEventKind.gameStateUpdated);
+        if (pendingHintBudget != NO_PENDING_HINT) {
+            long budget = pendingHintBudget;
+            pendingHintBudget = NO_PENDING_HINT;
+            if (suggestHint(budget) != null) {
+                publishState(GameEventKind.hintImproved);
+            }
+        }
+        for (; computerTurnsOwed > 0; computerTurnsOwed--) {
+            scheduleComputerTurn();
+        }
+    }
+
+    private void recordCandidates(GuessOutcome outcome) {
+        if (candidateTracker != null && outcome != null && outcome.entry() != null) {
+            candidateTracker.record(outcome.entry().player(), outcome.entry().result());
+        }
+    }
+
+    /**
+     * Best guess for the current player found within the budget, or null if none is available.
+     * In timed games the budget is capped to a small share of the player's remaining clock.
+     * Better guesses found afterwards arrive as {@link GameEventKind#hintImproved} events until
+     * the next guess is submitted. The first request of a game may return null while candidate
+     * tracking is being set up; its hint then also arrives as a {@link GameEventKind#hintImproved}.
+     */
+    public synchronized String requestHint(long budgetMillis) {
+        if (currentGameState == null || !isAcceptingGuesses(currentGameState.getStatus())) {
+            return null;
+        }
+        if (candidateTracker == null) {
+            requestTracker();
+            if (candidateTracker == null) {
+                pendingHintBudget = budgetMillis;
+                return null;
+            }
+        }
+        return suggestHint(budgetMillis);
+    }
+
+    private String suggestHint(long budgetMillis) {
+        GamePlayer player = currentGameState.getCurrentTurn();
+        long budget = budgetMillis;
+        if (currentGameState.getConfig().timerDuration().isTimed()) {
+            var slot = slotFor(player);
+            if (slot != null) {
+                budget = Math.min(budget, turnTimer.getRemainingFor(slot) * 1000L / HINT_CLOCK_SHARE);
+            }
+        }
+        currentHint = hintService.suggest(candidateTracker, player, budget, (better, token) -> {
+            synchronized (this) {
+                // A guess, new game or reset may have cancelled this hint while the report waited
+                if (hintService.isCurrent(token)) {
+                    currentHint = better;
+                    publishState(GameEventKind.hintImproved);
+                }
+            }
+        });
+        return currentHint;
+    }
+
+    private static boolean isAcceptingGuesses(GameStatus status) {
+        return status == GameStatus.inProgress || status == GameStatus.waitingForFinalGuess;
+    }
+
+    public synchronized void reset() {
+        hintService.cancel();
+        currentHint = null;
         currentGameState = null;
+        candidateTracker = null;
+        trackerRequested = false;
+        pendingHintBudget = NO_PENDING_HINT;
+        computerTurnsOwed = 0;
+        deltas.reset();
         turnTimer.reset();
     }
 
+    /**
+     * Ends the session for good: stops its timer and hint refinement and detaches from the timer.
+     */
+    public synchronized void close() {
+        reset();
+        turnTimer.removeListener(this);
+        hintService.close();
+        if (background instanceof ExecutorService executor) {
+            executor.shutdownNow();
+        }
+        for (GameEventListener l : eventListeners) {
+            if (l instanceof AsyncGameEventListener async) {
+                async.close();
+            }
+        }
+    }
+
     public String pickWord(WordLength length) {
         return gameController.pickWord(length);
     }
@@ -109,7 +433,15 @@ public class GameSessionService implements TurnTimer.Listener {
         return gameController.isValidWord(word, length);
     }
 
-    public void applyWinnerKnowledge(boolean winnerKnewWord) {
+    /**
+     * Cheap per-keystroke check that the typed letters can still become a valid guess.
+     */
+    public synchronized boolean isViablePrefix(String typed) {
+        if (currentGameState == null || typed == null) return true;
+        return gameController.hasPrefix(currentGameState, typed.trim());
+    }
+
+    public synchronized void applyWinnerKnowledge(boolean winnerKnewWord) {
         if (currentGameState == null) return;
         GameStatus before = currentGameState.getStatus();
         currentGameState.applyWinnerKnowledge(winnerKnewWord);
@@ -133,7 +465,7 @@ public class GameSessionService implements TurnTimer.Listener {
     }
 
     @Override
-    public void onTimeUpdated(PlayerSlot slot, int remainingSeconds) {
+    public synchronized void onTimeUpdated(PlayerSlot slot, int remainingSeconds) {
         if (currentGameState == null || slot == null) return;
         if (!currentGameState.getConfig().timerDuration().isTimed()) {
             return;
@@ -142,7 +474,7 @@ public class GameSessionService implements TurnTimer.Listener {
     }
 
     @Override
-    public void onTimeExpired(PlayerSlot slot) {
+    public synchronized void onTimeExpired(PlayerSlot slot) {
         if (currentGameState == null || slot == null) {
             return;
         }
@@ -152,6 +484,11 @@ public class GameSessionService implements TurnTimer.Listener {
         if (currentGameState.getStatus() == GameStatus.finished) {
             return;
         }
+        // Timers notify outside their own lock, so an expiry may arrive after the clock was
+        // restarted for a new game or turn; only a clock that has really run out ends the game.
+        if (slot != slotFor(currentGameState.getCurrentTurn()) || turnTimer.getRemainingFor(slot) > 0) {
+            return;
+        }
         GamePlayer player = playerForSlot(slot);
         currentGameState.handleTimeout(player);
         turnTimer.stop();
@@ -164,10 +501,23 @@ public class GameSessionService implements TurnTimer.Listener {
     }
 
     private void publishState(GameEventKind kind, controller.events.FinishReasonView finishReason) {
-        var uiModel = uiMapper.toUiModel(currentGameState, finishReason);
+        if (!statsRecorded && currentGameState != null && currentGameState.getStatus() == GameStatus.finished) {
+            statsRecorded = true;
+            wordStats.recordGame(currentGameState);
+        }
+        // Full snapshots are only built for snapshot listeners and new games
+        var uiModel = eventListeners.isEmpty() && (kind != GameEventKind.gameStarted || deltas.isEmpty())
+                ? null : snapshot(finishReason);
         for (GameEventListener l : eventListeners) {
             l.onGameStateEvent(kind, uiModel);
         }
+        if (!deltas.isEmpty() && currentGameState != null) {
+            if (kind == GameEventKind.gameStarted) {
+                deltas.gameStarted(currentGameState, uiModel);
+            } else {
+                deltas.publish(currentGameState, finishReason, candidateTracker);
+            }
+        }
     }
 
     private PlayerSlot slotFor(GamePlayer player) {
@@ -194,5 +544,10 @@ public class GameSessionService implements TurnTimer.Listener {
         for (GameEventListener l : eventListeners) {
             l.onTimerEvent(timerView);
         }
+        deltas.publishTimer(timerView);
+    }
+
+    private controller.events.GameUiModel snapshot(controller.events.FinishReasonView finishReason) {
+        return uiMapper.toUiModel(currentGameState, finishReason, candidateTracker, currentHint);
     }
 }
@@ -13,6 +13,7 @@ import controller.events.FinishReasonView;
 import java.util.List;
 import model.GamePlayer;
 import model.GameState;
+import model.GuessEntry;
 import model.enums.GameStatus;
 import model.enums.FinishState;
 
@@ -34,6 +35,14 @@ class GameUiModelMapper {
     }
 
     GameUiModel toUiModel(GameState state, FinishReasonView finishReason) {
+        return toUiModel(state, finishReason, null, null);
+    }
+
+    /**
+     * @param candidates remaining-answer counts to expose, or null if they are not tracked
+     * @param hint       latest suggested guess for the current player, or null
+     */
+    GameUiModel toUiModel(GameState state, FinishReasonView finishReason, CandidateTracker candidates, String hint) {
         if (state == null) return null;
         var config = state.getConfig();
         String playerOneName = name(config.playerOne());
@@ -50,12 +59,11 @@ class GameUiModelMapper {
                 : null;
         int timerSeconds = config.timerDuration() != null ? config.timerDuration().seconds() : 0;
         var guesses = state.getGuesses().stream()
-                .map(g -> new GuessView(
-                        name(g.player()),
-                        config.playerOne() != null && g.player().equals(config.playerOne()),
-                        toView(g.result())))
+                .map(g -> toView(config, g))
                 .toList();
         KeyboardView keyboard = keyboardBuilder.build(state);
+        Integer p1Candidates = candidates != null && config.playerOne() != null ? candidates.remaining(config.playerOne()) : null;
+        Integer p2Candidates = candidates != null && config.playerTwo() != null ? candidates.remaining(config.playerTwo()) : null;
 
         return new GameUiModel(
                 state.getId(),
@@ -74,11 +82,21 @@ class GameUiModelMapper {
                 p1Remaining,
                 p2Remaining,
                 List.copyOf(guesses),
-                keyboard
+                keyboard,
+                p1Candidates,
+                p2Candidates,
+                hint
         );
     }
 
-    private String name(GamePlayer player) {
+    GuessView toView(GameState.GameConfig config, GuessEntry g) {
+        return new GuessView(
+                name(g.player()),
+                config.playerOne() != null && g.player().equals(config.playerOne()),
+                toView(g.result()));
+    }
+
+    String name(GamePlayer player) {
         if (player == null || player.profile() == null || player.profile().username() == null) return null;
         return player.profile().username();
     }
@@ -103,7 +121,7 @@ class GameUiModelMapper {
         );
     }
 
-    private GameStatusView mapStatus(GameStatus status) {
+    GameStatusView mapStatus(GameStatus status) {
         if (status == null) return GameStatusView.setup;
         return switch (status) {
             case setup -> GameStatusView.setup;
@@ -124,7 +142,7 @@ class GameUiModelMapper {
         };
     }
 
-    private FinishStateView mapFinishState(FinishState state) {
+    FinishStateView mapFinishState(FinishState state) {
         if (state == null) return FinishStateView.notFinished;
         return switch (state) {
             case notFinished -> FinishStateView.notFinished;
@@ -0,0 +1,194 @@
+package controller;
+
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.stream.IntStream;
+import model.HardWordEntry;
+import model.PackedWord;
+import model.enums.Difficulty;
+import model.enums.WordLength;
+import util.PersistenceService;
+
+/**
+ * Headless job that ranks answer words by how hard the solver finds them.
+ *
+ * For each of the solver's best few openings, the job builds the solver's whole decision tree once:
+ * at each node it picks a guess for the remaining candidates and splits them by feedback, so every
+ * answer under that node shares the work. Subtrees are solved as fork-join tasks. For each word,
+ * this gives the number of guesses needed after each opening. The hardness score is the mean of
+ * those counts plus their standard deviation, so words that are only sometimes found quickly still
+ * rank high.
+ *
+ * Usage: java controller.HardestWordsJob [dataDirectory]
+ */
+public final class HardestWordsJob {
+
+    static final int OPENINGS = 5;
+    // Guard against a branch that never narrows; far above any real solve
+    private static final int MAX_GUESSES = 20;
+
+    private final ForkJoinPool pool;
+    private final PatternMatrixCache matrices;
+
+    public HardestWordsJob(ForkJoinPool pool, PatternMatrixCache matrices) {
+        this.pool = pool;
+        this.matrices = matrices;
+    }
+
+    public static void main(String[] args) {
+        var persistence = args.length > 0 ? new PersistenceService(Paths.get(args[0])) : new PersistenceService();
+        var bank = WordBank.standard();
+        var pool = new ForkJoinPool(Runtime.getRuntime().availableProcessors());
+        var job = new HardestWordsJob(pool, new PatternMatrixCache(null));
+        long start = System.nanoTime();
+        try {
+            for (WordLength wordLength : WordLength.values()) {
+                if (bank.wordCount(wordLength) == 0) {
+                    continue;
+                }
+                for (Difficulty difficulty : Difficulty.values()) {
+                    var ranking = job.rank(bank, wordLength, difficulty);
+                    persistence.saveHardestWords(ranking, wordLength, difficulty);
+                    if (wordLength == WordLength.five && difficulty == Difficulty.normal) {
+                        persistence.saveHardestWords(ranking);
+                    }
+                    System.out.println("Ranked " + ranking.size() + " " + wordLength.name() + "-letter words (" + difficulty.name() + ")");
+                }
+            }
+        } finally {
+            pool.shutdown();
+        }
+        System.out.println("Done in " + (System.nanoTime() - start) / 1_000_000 + " ms");
+    }
+
+    /**
+     * All answers of this length, hardest first.
+     */
+    public List<HardWordEntry> rank(WordBank bank, WordLength wordLength, Difficulty difficulty) {
+        var solver = CandidateSolver.create(bank, wordLength, difficulty, matrices);
+        int answers = solver.answerCount();
+        if (answers == 0) {
+            return List.of();
+        }
+        int[] all = IntStream.range(0, answers).toArray();
+        int[] openings = pool.submit(() -> bestOpenings(solver, all)).join();
+
+        int[][] guessesNeeded = new int[openings.length][answers];
+        for (int o = 0; o < openings.length; o++) {
+            pool.invoke(new SolveNode(solver, all, openings[o], 1, guessesNeeded[o]));
+        }
+
+        List<HardWordEntry> scored = new ArrayList<>(answers);
+        for (int a = 0; a < answers; a++) {
+            double mean = 0;
+            for (int[] run : guessesNeeded) mean += run[a];
+            mean /= openings.length;
+            double variance = 0;
+            for (int[] run : guessesNeeded) variance += (run[a] - mean) * (run[a] - mean);
+            variance /= openings.length;
+            double score = Math.round((mean + Math.sqrt(variance)) * 100) / 100.0;
+            scored.add(new HardWordEntry(0, PackedWord.decode(solver.answerWord(a), solver.length()), score));
+        }
+        scored.sort(Comparator.comparingDouble(HardWordEntry::hardnessScore).reversed()
+                .thenComparing(HardWordEntry::word));
+
+        List<HardWordEntry> ranked = new ArrayList<>(answers);
+        for (int i = 0; i < scored.size(); i++) {
+            var entry = scored.get(i);
+            ranked.add(new HardWordEntry(i + 1, entry.word(), entry.hardnessScore()));
+        }
+        return ranked;
+    }
+
+    /**
+     * Rows of the highest-scoring first guesses against every answer.
+     */
+    private static int[] bestOpenings(CandidateSolver solver, int[] all) {
+        double[] scores = new double[solver.guessCount()];
+        IntStream.range(0, scores.length).parallel().forEach(g -> scores[g] = solver.score(g, all));
+        return IntStream.range(0, scores.length).boxed()
+                .sorted(Comparator.comparingDouble((Integer g) -> scores[g]).reversed())
+                .limit(OPENINGS)
+                .mapToInt(Integer::intValue)
+                .toArray();
+    }
+
+    /**
+     * Plays one guess against a set of candidates and solves each feedback split in parallel.
+     * The shared result array gets one write per answer, from the node that finds it.
+     */
+    private static final class SolveNode extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+        private static final int CHOOSE = -1;
+
+        private final CandidateSolver solver;
+        private final int[] candidates;
+        private final int parentSize;
+        private final int guessNumber;
+        private final int[] guessesNeeded;
+        private int guessRow;
+
+        SolveNode(CandidateSolver solver, int[] candidates, int guessRow, int guessNumber, int[] guessesNeeded) {
+            this(solver, candidates, guessRow, Integer.MAX_VALUE, guessNumber, guessesNeeded);
+        }
+
+        private SolveNode(CandidateSolver solver, int[] candidates, int guessRow, int parentSize, int guessNumber,
+                          int[] guessesNeeded) {
+            this.solver = solver;
+            this.candidates = candidates;
+            this.guessRow = guessRow;
+            this.parentSize = parentSize;
+            this.guessNumber = guessNumber;
+            this.guessesNeeded = guessesNeeded;
+        }
+
+        @Override
+        protected void compute() {
+            if (guessRow == CHOOSE) {
+                guessRow = chooseGuess();
+            }
+            int guessWord = solver.guessWord(guessRow);
+            int[] splitSizes = new int[solver.keyCount()];
+            for (int a : candidates) {
+                if (solver.answerWord(a) == guessWord) {
+                    guessesNeeded[a] = guessNumber;
+                } else {
+                    splitSizes[solver.keyOf(guessRow, a)]++;
+                }
+            }
+            if (guessNumber >= MAX_GUESSES) {
+                for (int a : candidates) {
+                    if (solver.answerWord(a) != guessWord) guessesNeeded[a] = MAX_GUESSES + 1;
+                }
+                return;
+            }
+
+            List<SolveNode> children = new ArrayList<>();
+            for (int key = 0; key < splitSizes.length; key++) {
+                if (splitSizes[key] == 0) {
+                    continue;
+                }
+                int[] split = new int[splitSizes[key]];
+                int n = 0;
+                for (int a : candidates) {
+                    if (solver.answerWord(a) != guessWord && solver.keyOf(guessRow, a) == key) split[n++] = a;
+                }
+                children.add(new SolveNode(solver, split, CHOOSE, candidates.length, guessNumber + 1, guessesNeeded));
+            }
+            invokeAll(children);
+        }
+
+        private int chooseGuess() {
+            int row = solver.guessIndexOf(PackedWord.encode(solver.bestGuess(candidates)));
+            if (candidates.length >= parentSize || row < 0) {
+                // The last guess did not narrow the set: guess a candidate, which always does
+                row = solver.guessIndexOf(solver.answerWord(candidates[0]));
+            }
+            return row;
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package controller;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import model.PackedWord;
+import model.enums.HardnessBand;
+
+/**
+ * Answers of one length split into {@link HardnessBand}s by a precomputed ranking.
+ * The ranking (hardest first) is cut into thirds, any remainder going to hard first; answers
+ * it does not mention count as medium.
+ * All filtering happens here, once, so a pick is a single random index into a band.
+ */
+final class HardnessBuckets {
+
+    private final int length;
+    private final int[][] words;
+    private final ShuffleBag[] bags;
+
+    private HardnessBuckets(int length, int[][] words, ShuffleBag[] bags) {
+        this.length = length;
+        this.words = words;
+        this.bags = bags;
+    }
+
+    /**
+     * @param hardestFirst ranked words; entries that are not answers in {@code answers} are ignored
+     * @param random       when not null, each band draws from its own shuffle bag so no word repeats
+     *                     until the band has been used up
+     */
+    static HardnessBuckets of(PackedWordIndex answers, List<String> hardestFirst, Random random) {
+        int length = answers.wordLength().length();
+        // Band of each answer, by its position in the index
+        byte[] bandOf = new byte[answers.size()];
+        Arrays.fill(bandOf, (byte) HardnessBand.medium.ordinal());
+        int[] rankedAnswers = new int[hardestFirst.size()];
+        int ranked = 0;
+        for (String word : hardestFirst) {
+            int packed = word == null || word.length() != length ? PackedWord.INVALID : PackedWord.encode(word);
+            int index = packed == PackedWord.INVALID ? -1 : answers.indexOf(packed);
+            if (index >= 0) {
+                rankedAnswers[ranked++] = index;
+            }
+        }
+        int hardEnd = (ranked + 2) / 3;
+        int easyStart = ranked - ranked / 3;
+        for (int i = 0; i < ranked; i++) {
+            HardnessBand band = i < hardEnd ? HardnessBand.hard
+                    : i < easyStart ? HardnessBand.medium
+                    : HardnessBand.easy;
+            bandOf[rankedAnswers[i]] = (byte) band.ordinal();
+        }
+
+        int bands = HardnessBand.values().length;
+        int[] sizes = new int[bands];
+        for (byte band : bandOf) sizes[band]++;
+        int[][] words = new int[bands][];
+        for (int b = 0; b < bands; b++) words[b] = new int[sizes[b]];
+        int[] filled = new int[bands];
+        for (int index = 0; index < bandOf.length; index++) {
+            words[bandOf[index]][filled[bandOf[index]]++] = answers.packedAt(index);
+        }
+
+        ShuffleBag[] bags = null;
+        if (random != null) {
+            bags = new ShuffleBag[bands];
+            for (int b = 0; b < bands; b++) {
+                bags[b] = words[b].length == 0 ? null : new ShuffleBag(words[b].length, random);
+            }
+        }
+        return new HardnessBuckets(length, words, bags);
+    }
+
+    int size(HardnessBand band) {
+        return words[band.ordinal()].length;
+    }
+
+    /**
+     * A word from the band, or null if the band is empty.
+     */
+    String pick(HardnessBand band, Random random) {
+        int[] bucket = words[band.ordinal()];
+        if (bucket.length == 0) {
+            return null;
+        }
+        int index = bags != null ? bags[band.ordinal()].next() : random.nextInt(bucket.length);
+        return PackedWord.decode(bucket[index], length);
+    }
+}
@@ -0,0 +1,277 @@
+package controller;
+
+import controller.events.PlayerSlot;
+import java.util.Arrays;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Drives the turn clocks of many games from a few threads (see {@link #newTurnTimer()}).
+ *
+ * Each thread owns a shard: a hashed wheel of {@link #WHEEL_SIZE} buckets, each a doubly linked
+ * list of running clocks. A running clock sits in the bucket of its next one-second tick; when the
+ * wheel reaches it, the clock counts down, is relinked one second further on and its listeners
+ * are notified. Starting, stopping and ticking a clock only relink it, so the cost per wheel step
+ * is the number of clocks due in that step and a turn allocates nothing. Listeners are called on
+ * the shard's thread after its lock is released; a slow listener delays only its own shard.
+ */
+public final class HashedWheelTimer implements AutoCloseable {
+
+    static final int WHEEL_SIZE = 256;
+    private static final int WHEEL_MASK = WHEEL_SIZE - 1;
+    // Wheel steps per countdown second; a turn's first tick lands within one step of a full second
+    static final int STEPS_PER_SECOND = 10;
+
+    private final Shard[] shards;
+    private final AtomicInteger nextShard = new AtomicInteger();
+
+    /**
+     * @param threads number of shards, each with its own wheel and thread
+     */
+    public HashedWheelTimer(int threads) {
+        this(threads, 1000);
+    }
+
+    /**
+     * Package-private constructor for tests to shorten the countdown second.
+     */
+    HashedWheelTimer(int threads, long secondMillis) {
+        if (threads <= 0) {
+            throw new IllegalArgumentException("threads must be positive");
+        }
+        long stepNanos = Math.max(1, TimeUnit.MILLISECONDS.toNanos(secondMillis) / STEPS_PER_SECOND);
+        shards = new Shard[threads];
+        for (int i = 0; i < threads; i++) {
+            shards[i] = new Shard("TurnTimerWheel-" + i, stepNanos);
+        }
+    }
+
+    /**
+     * A turn timer for one game. Games are spread over the shards round-robin.
+     */
+    TurnTimer newTurnTimer() {
+        return new Clock(shards[Math.floorMod(nextShard.getAndIncrement(), shards.length)]);
+    }
+
+    @Override
+    public void close() {
+        for (Shard shard : shards) {
+            shard.executor.shutdownNow();
+        }
+    }
+
+    /**
+     * One wheel and its thread. Wheel links and clock state are guarded by the shard's monitor.
+     */
+    private static final class Shard {
+        private final ScheduledExecutorService executor;
+        private final long stepNanos;
+        private final long startNanos = System.nanoTime();
+        private final Clock[] buckets = new Clock[WHEEL_SIZE];
+        // Next wheel step to process
+        private long step;
+
+        Shard(String name, long stepNanos) {
+            this.stepNanos = stepNanos;
+            this.executor = Executors.newSingleThreadScheduledExecutor(r -> {
+                Thread t = new Thread(r, name);
+                t.setDaemon(true);
+                return t;
+            });
+            executor.scheduleAtFixedRate(this::advance, stepNanos, stepNanos, TimeUnit.NANOSECONDS);
+        }
+
+        /**
+         * Processes every step that is due by now, catching up after a delayed run.
+         */
+        private void advance() {
+            long due = (System.nanoTime() - startNanos) / stepNanos;
+            while (true) {
+                Clock fired;
+                synchronized (this) {
+                    if (step > due) {
+                        return;
+                    }
+                    fired = expireBucket(step++);
+                }
+                for (Clock clock = fired; clock != null; ) {
+                    Clock next = clock.nextFired;
+                    clock.nextFired = null;
+                    clock.notifyFired();
+                    clock = next;
+                }
+            }
+        }
+
+        /**
+         * Counts down the clocks due at this step and returns them chained through nextFired.
+         */
+        private Clock expireBucket(long currentStep) {
+            Clock fired = null;
+            Clock clock = buckets[(int) (currentStep & WHEEL_MASK)];
+            while (clock != null) {
+                Clock next = clock.next;
+                if (clock.dueStep <= currentStep) {
+                    unlink(clock);
+                    PlayerSlot slot = clock.activeSlot;
+                    if (clock.remaining[slot.ordinal()] <= 0) {
+                        // Started without time left: nothing to count down or report
+                        clock.activeSlot = null;
+                        clock = next;
+                        continue;
+                    }
+                    int remaining = --clock.remaining[slot.ordinal()];
+                    clock.firedSlot = slot;
+                    clock.firedRemaining = remaining;
+                    if (remaining <= 0) {
+                        clock.activeSlot = null;
+                    } else {
+                        link(clock, currentStep + STEPS_PER_SECOND);
+                    }
+                    clock.nextFired = fired;
+                    fired = clock;
+                }
+                clock = next;
+            }
+            return fired;
+        }
+
+        private void link(Clock clock, long dueStep) {
+            clock.dueStep = dueStep;
+            int bucket = (int) (dueStep & WHEEL_MASK);
+            clock.prev = null;
+            clock.next = buckets[bucket];
+            if (clock.next != null) {
+                clock.next.prev = clock;
+            }
+            buckets[bucket] = clock;
+            clock.linked = true;
+        }
+
+        private void unlink(Clock clock) {
+            if (!clock.linked) {
+                return;
+            }
+            if (clock.prev != null) {
+                clock.prev.next = clock.next;
+            } else {
+                buckets[(int) (clock.dueStep & WHEEL_MASK)] = clock.next;
+            }
+            if (clock.next != null) {
+                clock.next.prev = clock.prev;
+            }
+            clock.prev = null;
+            clock.next = null;
+            clock.linked = false;
+        }
+    }
+
+    /**
+     * Per-game clocks for both player slots; also the wheel's list node.
+     */
+    private static final class Clock implements TurnTimer {
+        private static final Listener[] NO_LISTENERS = new Listener[0];
+
+        private final Shard shard;
+        private final int[] remaining = new int[PlayerSlot.values().length];
+        private volatile Listener[] listeners = NO_LISTENERS;
+        private PlayerSlot activeSlot;
+
+        // Wheel links, guarded by the shard
+        private Clock prev;
+        private Clock next;
+        private boolean linked;
+        private long dueStep;
+
+        // Set under the shard lock, read by the shard thread once the lock is released
+        private Clock nextFired;
+        private PlayerSlot firedSlot;
+        private int firedRemaining;
+
+        Clock(Shard shard) {
+            this.shard = shard;
+        }
+
+        @Override
+        public void addListener(Listener listener) {
+            if (listener == null) return;
+            synchronized (shard) {
+                if (!Arrays.asList(listeners).contains(listener)) {
+                    Listener[] grown = Arrays.copyOf(listeners, listeners.length + 1);
+                    grown[listeners.length] = listener;
+                    listeners = grown;
+                }
+            }
+        }
+
+        @Override
+        public void removeListener(Listener listener) {
+            if (listener == null) return;
+            synchronized (shard) {
+                listeners = Arrays.stream(listeners).filter(l -> l != listener).toArray(Listener[]::new);
+            }
+        }
+
+        @Override
+        public void setTimeForPlayer(PlayerSlot slot, int seconds) {
+            if (slot == null) return;
+            synchronized (shard) {
+                remaining[slot.ordinal()] = seconds;
+            }
+            for (Listener l : listeners) {
+                l.onTimeUpdated(slot, seconds);
+            }
+        }
+
+        @Override
+        public int getRemainingFor(PlayerSlot slot) {
+            if (slot == null) return 0;
+            synchronized (shard) {
+                return remaining[slot.ordinal()];
+            }
+        }
+
+        @Override
+        public void start(PlayerSlot slot) {
+            if (slot == null) return;
+            synchronized (shard) {
+                shard.unlink(this);
+                activeSlot = slot;
+                shard.link(this, shard.step + STEPS_PER_SECOND);
+            }
+        }
+
+        @Override
+        public void stop() {
+            synchronized (shard) {
+                shard.unlink(this);
+                activeSlot = null;
+            }
+        }
+
+        @Override
+        public void reset() {
+            synchronized (shard) {
+                shard.unlink(this);
+                activeSlot = null;
+                Arrays.fill(remaining, 0);
+            }
+        }
+
+        /**
+         * Runs outside the shard lock, so it can arrive after the clock was reset or restarted;
+         * listeners confirm an expiry against {@link #getRemainingFor}.
+         */
+        private void notifyFired() {
+            for (Listener l : listeners) {
+                if (firedRemaining <= 0) {
+                    l.onTimeExpired(firedSlot);
+                } else {
+                    l.onTimeUpdated(firedSlot, firedRemaining);
+                }
+            }
+        }
+    }
+}
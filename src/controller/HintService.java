@@ -0,0 +1,168 @@
+package controller;
+
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.ObjLongConsumer;
+import model.GamePlayer;
+import model.PackedWord;
+
+/**
+ * Anytime guess suggestions: {@link #suggest} scores guesses (see {@link CandidateSolver}) until a
+ * deadline and returns the best one so far, then keeps scoring the rest on a background thread and
+ * reports better guesses as it finds them (at most one report per 100 ms slice). Starting a new
+ * hint or calling {@link #cancel()} stops any refinement still running; a report already on its
+ * way carries its hint's token, so the receiver can drop it with {@link #isCurrent(long)}.
+ * The background thread exits when idle, so an idle session holds no thread.
+ *
+ * Guesses that could still be the answer are scored first, so even a tiny budget yields a
+ * guess that can win. Early turns covered by the opening book are answered without searching.
+ */
+public class HintService implements AutoCloseable {
+
+    private static final long CHECK_CLOCK_EVERY = 16;
+    private static final long REFINE_SLICE_NANOS = 100_000_000L;
+    private static final long IDLE_SECONDS = 5;
+
+    private final ThreadPoolExecutor refiner = new ThreadPoolExecutor(1, 1, IDLE_SECONDS, TimeUnit.SECONDS,
+            new LinkedBlockingQueue<>(), r -> {
+        Thread thread = new Thread(r, "HintService");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final AtomicLong generation = new AtomicLong();
+
+    public HintService() {
+        refiner.allowCoreThreadTimeOut(true);
+    }
+
+    /**
+     * @param budgetMillis how long the caller can wait for the first answer
+     * @param onImproved   called from the background thread with each better guess found later and
+     *                     the token of this hint; check it with {@link #isCurrent(long)} under the
+     *                     lock that guards {@link #cancel()}
+     * @return the best guess found within the budget, or null if no candidate is left
+     */
+    String suggest(CandidateTracker tracker, GamePlayer player, long budgetMillis, ObjLongConsumer<String> onImproved) {
+        long token = generation.incrementAndGet();
+        if (tracker == null || player == null) {
+            return null;
+        }
+        String book = tracker.bookGuess(player);
+        if (book != null) {
+            return book;
+        }
+        var search = new Search(tracker, tracker.candidates(player), token);
+        if (search.candidates.length == 0) {
+            return null;
+        }
+        search.run(System.nanoTime() + Math.max(0, budgetMillis) * 1_000_000L);
+        String first = search.bestWord();
+        if (!search.isDone()) {
+            refiner.execute(() -> {
+                String reported = first;
+                while (!search.isDone() && !search.isCancelled()) {
+                    search.run(System.nanoTime() + REFINE_SLICE_NANOS);
+                    String better = search.bestWord();
+                    if (!search.isCancelled() && onImproved != null && better != null && !better.equals(reported)) {
+                        reported = better;
+                        onImproved.accept(better, token);
+                    }
+                }
+            });
+        }
+        return first;
+    }
+
+    /**
+     * Stops any background refinement; its result is dropped.
+     */
+    public void cancel() {
+        generation.incrementAndGet();
+    }
+
+    /**
+     * Whether the hint with this token is still the latest one and has not been cancelled.
+     */
+    boolean isCurrent(long token) {
+        return generation.get() == token;
+    }
+
+    @Override
+    public void close() {
+        cancel();
+        refiner.shutdownNow();
+    }
+
+    /**
+     * Resumable scan over the guess rows: candidate answers first, then every other guess.
+     */
+    private final class Search {
+        private final CandidateSolver solver;
+        private final int[] candidates;
+        private final int[] order;
+        private final long token;
+        private int next;
+        private int bestRow = -1;
+        private double bestScore = -1;
+
+        Search(CandidateTracker tracker, int[] candidates, long token) {
+            this.solver = tracker.solver();
+            this.candidates = candidates;
+            this.token = token;
+            this.order = scanOrder(solver, candidates);
+        }
+
+        void run(long deadlineNanos) {
+            // Two or fewer candidates: guessing one of them is optimal.
+            if (candidates.length <= 2) {
+                bestRow = order[0];
+                next = order.length;
+                return;
+            }
+            while (next < order.length && !isCancelled()) {
+                int row = order[next++];
+                double score = solver.score(row, candidates);
+                if (score > bestScore + 1e-9) {
+                    bestScore = score;
+                    bestRow = row;
+                }
+                if (next % CHECK_CLOCK_EVERY == 0 && System.nanoTime() - deadlineNanos >= 0) {
+                    return;
+                }
+            }
+        }
+
+        boolean isDone() {
+            return next >= order.length;
+        }
+
+        boolean isCancelled() {
+            return !isCurrent(token);
+        }
+
+        String bestWord() {
+            return bestRow < 0 ? null : PackedWord.decode(solver.guessWord(bestRow), solver.length());
+        }
+
+        private int[] scanOrder(CandidateSolver solver, int[] candidates) {
+            int[] order = new int[solver.guessCount()];
+            boolean[] queued = new boolean[order.length];
+            int n = 0;
+            for (int a : candidates) {
+                int row = solver.guessIndexOf(solver.answerWord(a));
+                if (row >= 0 && !queued[row]) {
+                    queued[row] = true;
+                    order[n++] = row;
+                }
+            }
+            for (int row = 0; row < order.length; row++) {
+                if (!queued[row]) {
+                    order[n++] = row;
+                }
+            }
+            return order;
+        }
+    }
+}
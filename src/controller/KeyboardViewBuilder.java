@@ -2,64 +2,39 @@ package controller;
 
 import controller.events.KeyboardView;
 import controller.events.LetterFeedbackView;
-import java.util.HashMap;
-import java.util.Map;
 import model.GameState;
+import model.LetterStates;
 
 /**
- * Builds a keyboard view from game state guesses and difficulty.
+ * Builds a keyboard view from the per-player letter states the game keeps as guesses arrive.
  */
 class KeyboardViewBuilder {
 
     KeyboardView build(GameState state) {
-        var keyStates = new HashMap<Character, LetterFeedbackView>();
-        var difficulty = state.getConfig().difficulty();
-
-        state.getGuesses().forEach(g -> {
-            var guess = g.result().guess();
-            var feedback = g.result().feedback();
-
-            if (difficulty == model.enums.Difficulty.expert) {
-                for (int i = 0; i < guess.length(); i++) {
-                    char c = Character.toUpperCase(guess.charAt(i));
-                    merge(keyStates, c, LetterFeedbackView.absent); // gray for used
-                }
-                return;
-            }
-
-            int n = Math.min(guess.length(), feedback.size());
-            for (int i = 0; i < n; i++) {
-                char c = Character.toUpperCase(guess.charAt(i));
-                var fb = feedback.get(i);
-                if (fb == null) continue;
-
-                LetterFeedbackView v = switch (fb) {
-                    case correct -> LetterFeedbackView.correct;
-                    case present -> LetterFeedbackView.present;
-                    case notPresent -> LetterFeedbackView.absent;
-                    default -> LetterFeedbackView.absent;
-                };
-
-                merge(keyStates, c, v);
-            }
-        });
-
-        return new KeyboardView(Map.copyOf(keyStates));
-    }
+        var config = state.getConfig();
+        var merged = new byte[LetterStates.LETTERS];
+        // In a solo race the computer's guesses are against a different word
+        boolean soloRace = config.mode() == model.enums.GameMode.solo && config.playerOne() != null;
+        mergeInto(state.lettersFor(config.playerOne()), merged);
+        if (!soloRace) {
+            mergeInto(state.lettersFor(config.playerTwo()), merged);
+        }
 
-    private void merge(Map<Character, LetterFeedbackView> map, char c, LetterFeedbackView newV) {
-        LetterFeedbackView oldV = map.get(c);
-        if (oldV == null || strength(newV) > strength(oldV)) {
-            map.put(c, newV);
+        var keys = new LetterFeedbackView[LetterStates.LETTERS];
+        for (int i = 0; i < keys.length; i++) {
+            keys[i] = switch (merged[i]) {
+                case LetterStates.CORRECT -> LetterFeedbackView.correct;
+                case LetterStates.PRESENT -> LetterFeedbackView.present;
+                case LetterStates.USED -> LetterFeedbackView.absent; // gray for used in expert
+                default -> LetterFeedbackView.unused;
+            };
         }
+        return KeyboardView.of(keys);
     }
 
-    private int strength(LetterFeedbackView v) {
-        return switch (v) {
-            case correct -> 3;
-            case present -> 2;
-            case absent -> 1;
-            case unused -> 0;
-        };
+    private static void mergeInto(LetterStates letters, byte[] merged) {
+        if (letters != null) {
+            letters.mergeInto(merged);
+        }
     }
 }
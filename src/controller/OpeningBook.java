@@ -0,0 +1,224 @@
+package controller;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.stream.IntStream;
+import model.PackedWord;
+import model.enums.Difficulty;
+import model.enums.WordLength;
+import util.Constants;
+
+/**
+ * Precomputed first and second guesses: for each word length and difficulty, the best opening and
+ * the best reply to every feedback that opening can receive. Each line is keyed by a fingerprint of
+ * the word lists it was built from, so a book built for another dictionary is simply not used.
+ *
+ * File layout (big-endian ints): magic, version, lineCount, then per line
+ * {length, difficulty ordinal, fingerprint, packed opening, replyCount, packed replies (-1 = none)}.
+ *
+ * Usage: java controller.OpeningBook resources/openings.bin
+ */
+public final class OpeningBook {
+
+    public static final String DEFAULT_NAME = "openings";
+
+    static final int MAGIC = 0x4C474F42; // "LGOB"
+    static final int VERSION = 1;
+
+    private final Map<LineKey, Line> lines;
+
+    private OpeningBook(Map<LineKey, Line> lines) {
+        this.lines = Map.copyOf(lines);
+    }
+
+    public static OpeningBook empty() {
+        return new OpeningBook(Map.of());
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length != 1) {
+            System.err.println("Usage: OpeningBook <openings.bin>");
+            System.exit(2);
+        }
+        Path target = Paths.get(args[0]);
+        OpeningBook book = build(WordBank.standard(), new PatternMatrixCache(null));
+        book.save(target);
+        System.out.println("Wrote " + book.size() + " opening lines into " + target);
+    }
+
+    /**
+     * Solves the first two turns for every word length the bank has answers for, at every difficulty.
+     */
+    public static OpeningBook build(WordBank bank, PatternMatrixCache matrices) {
+        Map<LineKey, Line> lines = new HashMap<>();
+        for (WordLength wordLength : WordLength.values()) {
+            if (bank.wordCount(wordLength) == 0) {
+                continue;
+            }
+            for (Difficulty difficulty : Difficulty.values()) {
+                var solver = CandidateSolver.create(bank, wordLength, difficulty, matrices);
+                lines.put(new LineKey(wordLength.length(), difficulty, fingerprint(solver)), solve(solver));
+            }
+        }
+        return new OpeningBook(lines);
+    }
+
+    private static Line solve(CandidateSolver solver) {
+        int[] all = IntStream.range(0, solver.answerCount()).toArray();
+        String opening = solver.bestGuess(all);
+        int openingRow = solver.guessIndexOf(PackedWord.encode(opening));
+
+        // Split the answers by the feedback the opening gets, then solve each split
+        int[] splitSizes = new int[solver.keyCount()];
+        for (int a : all) {
+            splitSizes[solver.keyOf(openingRow, a)]++;
+        }
+        int[] replies = new int[splitSizes.length];
+        Arrays.fill(replies, PackedWord.INVALID);
+        for (int key = 0; key < replies.length; key++) {
+            if (splitSizes[key] == 0) {
+                continue;
+            }
+            int[] split = new int[splitSizes[key]];
+            int n = 0;
+            for (int a : all) {
+                if (solver.keyOf(openingRow, a) == key) split[n++] = a;
+            }
+            replies[key] = PackedWord.encode(solver.bestGuess(split));
+        }
+        return new Line(PackedWord.encode(opening), replies);
+    }
+
+    /**
+     * Line for this solver's word lists and difficulty, or null if the book was built from other lists.
+     */
+    Line line(CandidateSolver solver, Difficulty difficulty) {
+        return lines.get(new LineKey(solver.length(), difficulty, fingerprint(solver)));
+    }
+
+    public int size() {
+        return lines.size();
+    }
+
+    static int fingerprint(CandidateSolver solver) {
+        int hash = solver.length();
+        for (int g = 0; g < solver.guessCount(); g++) hash = 31 * hash + solver.guessWord(g);
+        for (int a = 0; a < solver.answerCount(); a++) hash = 31 * hash + solver.answerWord(a);
+        return hash;
+    }
+
+    /**
+     * Reads "name.bin" from the classpath, or returns an empty book if it is missing or unreadable.
+     */
+    public static OpeningBook fromResource(String name) {
+        String resource = "/" + Constants.RESOURCES_PATH + name + ".bin";
+        try (InputStream in = OpeningBook.class.getResourceAsStream(resource)) {
+            if (in == null) {
+                return empty();
+            }
+            return read(in);
+        } catch (IOException e) {
+            System.err.println("Ignoring unreadable opening book " + resource + ": " + e.getMessage());
+            return empty();
+        }
+    }
+
+    public static OpeningBook load(Path file) throws IOException {
+        try (InputStream in = Files.newInputStream(file)) {
+            return read(in);
+        }
+    }
+
+    private static OpeningBook read(InputStream source) throws IOException {
+        var in = new DataInputStream(new BufferedInputStream(source));
+        if (in.readInt() != MAGIC) {
+            throw new IOException("Not an opening book");
+        }
+        int version = in.readInt();
+        if (version != VERSION) {
+            throw new IOException("Unsupported opening book version " + version);
+        }
+        int count = in.readInt();
+        Map<LineKey, Line> lines = new HashMap<>();
+        for (int i = 0; i < count; i++) {
+            int length = in.readInt();
+            int ordinal = in.readInt();
+            if (ordinal < 0 || ordinal >= Difficulty.values().length) {
+                throw new IOException("Unknown difficulty " + ordinal + " in opening book");
+            }
+            Difficulty difficulty = Difficulty.values()[ordinal];
+            int fingerprint = in.readInt();
+            int opening = in.readInt();
+            int replyCount = in.readInt();
+            if (replyCount < 0) {
+                throw new IOException("Corrupt opening book line " + i);
+            }
+            int[] replies = new int[replyCount];
+            for (int k = 0; k < replies.length; k++) replies[k] = in.readInt();
+            lines.put(new LineKey(length, difficulty, fingerprint), new Line(opening, replies));
+        }
+        return new OpeningBook(lines);
+    }
+
+    /**
+     * Writes to a temp file and moves it into place so readers never see a partial file.
+     */
+    public void save(Path file) throws IOException {
+        Path parent = file.toAbsolutePath().getParent();
+        Files.createDirectories(parent);
+        Path temp = Files.createTempFile(parent, file.getFileName().toString(), ".tmp");
+        try (var out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temp)))) {
+            out.writeInt(MAGIC);
+            out.writeInt(VERSION);
+            out.writeInt(lines.size());
+            for (var entry : lines.entrySet()) {
+                LineKey key = entry.getKey();
+                Line line = entry.getValue();
+                out.writeInt(key.length());
+                out.writeInt(key.difficulty().ordinal());
+                out.writeInt(key.fingerprint());
+                out.writeInt(line.opening);
+                out.writeInt(line.replies.length);
+                for (int reply : line.replies) out.writeInt(reply);
+            }
+        }
+        Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    private record LineKey(int length, Difficulty difficulty, int fingerprint) { }
+
+    /**
+     * Opening and replies for one word length and difficulty, as packed words.
+     */
+    static final class Line {
+        private final int opening;
+        private final int[] replies;
+
+        Line(int opening, int[] replies) {
+            this.opening = opening;
+            this.replies = replies;
+        }
+
+        int opening() {
+            return opening;
+        }
+
+        /**
+         * Best second guess after the opening got this feedback key, or {@link PackedWord#INVALID}.
+         */
+        int reply(int feedbackKey) {
+            return feedbackKey >= 0 && feedbackKey < replies.length ? replies[feedbackKey] : PackedWord.INVALID;
+        }
+    }
+}
@@ -0,0 +1,167 @@
+package controller;
+
+import java.nio.IntBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import model.PackedWord;
+import model.enums.WordLength;
+
+/**
+ * Sorted array of packed words for a single word length.
+ * Lookups are a binary search over primitives and do not allocate.
+ * The backing buffer is either a heap array or a memory-mapped section of a compiled dictionary.
+ */
+final class PackedWordIndex {
+
+    private final WordLength wordLength;
+    private final IntBuffer words;
+
+    private PackedWordIndex(WordLength wordLength, IntBuffer sortedUniqueWords) {
+        this.wordLength = wordLength;
+        this.words = sortedUniqueWords;
+    }
+
+    /**
+     * Wraps an already sorted, duplicate-free buffer (e.g. a mapped file section) without copying.
+     */
+    static PackedWordIndex wrap(WordLength wordLength, IntBuffer sortedUniqueWords) {
+        return new PackedWordIndex(wordLength, sortedUniqueWords);
+    }
+
+    /**
+     * Builds an index from raw words; entries of the wrong length or with non-letters are skipped.
+     */
+    static PackedWordIndex of(WordLength wordLength, Collection<String> rawWords) {
+        int[] packed = new int[rawWords.size()];
+        int count = 0;
+        for (String raw : rawWords) {
+            if (raw == null) continue;
+            String word = raw.trim();
+            if (word.length() != wordLength.length()) continue;
+            int code = PackedWord.encode(word);
+            if (code != PackedWord.INVALID) {
+                packed[count++] = code;
+            }
+        }
+        Arrays.sort(packed, 0, count);
+        int unique = 0;
+        for (int i = 0; i < count; i++) {
+            if (unique == 0 || packed[unique - 1] != packed[i]) {
+                packed[unique++] = packed[i];
+            }
+        }
+        return new PackedWordIndex(wordLength, IntBuffer.wrap(Arrays.copyOf(packed, unique)));
+    }
+
+    WordLength wordLength() {
+        return wordLength;
+    }
+
+    int size() {
+        return words.limit();
+    }
+
+    boolean isEmpty() {
+        return words.limit() == 0;
+    }
+
+    boolean contains(CharSequence word) {
+        if (word == null || word.length() != wordLength.length()) {
+            return false;
+        }
+        return contains(PackedWord.encode(word));
+    }
+
+    boolean contains(int packedWord) {
+        return packedWord != PackedWord.INVALID && indexOf(packedWord) >= 0;
+    }
+
+    /**
+     * True if any word starts with the given letters. A full-length prefix is a membership test.
+     * Words sharing a prefix form one contiguous range of the sorted array, so this is a single
+     * binary search with no allocation.
+     */
+    boolean hasPrefix(CharSequence prefix) {
+        int start = rangeStart(prefix);
+        return start >= 0 && start < words.limit() && words.get(start) <= rangeEnd(prefix);
+    }
+
+    /**
+     * Up to {@code limit} words starting with the prefix, in alphabetical order.
+     */
+    List<String> completions(CharSequence prefix, int limit) {
+        int start = rangeStart(prefix);
+        if (start < 0 || limit <= 0) {
+            return List.of();
+        }
+        int end = rangeEnd(prefix);
+        List<String> matches = new ArrayList<>(Math.min(limit, 16));
+        for (int i = start; i < words.limit() && words.get(i) <= end && matches.size() < limit; i++) {
+            matches.add(wordAt(i));
+        }
+        return matches;
+    }
+
+    private int rangeStart(CharSequence prefix) {
+        if (prefix == null || prefix.length() > wordLength.length()) {
+            return -1;
+        }
+        int packedPrefix = prefix.length() == 0 ? 0 : PackedWord.encode(prefix);
+        if (packedPrefix == PackedWord.INVALID) {
+            return -1;
+        }
+        int low = packedPrefix << (PackedWord.BITS_PER_LETTER * (wordLength.length() - prefix.length()));
+        int position = indexOf(low);
+        return position >= 0 ? position : -(position + 1);
+    }
+
+    private int rangeEnd(CharSequence prefix) {
+        int freeBits = PackedWord.BITS_PER_LETTER * (wordLength.length() - prefix.length());
+        int packedPrefix = prefix.length() == 0 ? 0 : PackedWord.encode(prefix);
+        return (packedPrefix << freeBits) | ((1 << freeBits) - 1);
+    }
+
+    /**
+     * Binary search; returns the position of the word or -(insertion point) - 1.
+     */
+    int indexOf(int packedWord) {
+        int low = 0;
+        int high = words.limit() - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            int value = words.get(mid);
+            if (value < packedWord) {
+                low = mid + 1;
+            } else if (value > packedWord) {
+                high = mid - 1;
+            } else {
+                return mid;
+            }
+        }
+        return -(low + 1);
+    }
+
+    int packedAt(int index) {
+        return words.get(index);
+    }
+
+    String wordAt(int index) {
+        return PackedWord.decode(words.get(index), wordLength.length());
+    }
+
+    /**
+     * Copies the entries into the given array (e.g. for compiling to disk).
+     */
+    void copyTo(int[] target, int offset) {
+        words.duplicate().get(target, offset, words.limit());
+    }
+
+    /**
+     * Approximate bytes held by the packed array (header plus payload); mapped indexes live off-heap.
+     */
+    long footprintBytes() {
+        return 16L + 4L * words.limit();
+    }
+}
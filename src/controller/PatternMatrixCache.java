@@ -0,0 +1,49 @@
+package controller;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.WeakHashMap;
+import model.enums.WordLength;
+import model.rules.PatternMatrix;
+
+/**
+ * Shares one {@link PatternMatrix} per (word bank, word length) between the AI opponent, hints and
+ * hardness scoring. With a cache directory, matrices are saved on first build and memory-mapped on
+ * later runs; without one they live in memory only.
+ */
+public final class PatternMatrixCache {
+
+    private final Path directory;
+    private final Map<WordBank, Map<WordLength, PatternMatrix>> matrices = new WeakHashMap<>();
+
+    public PatternMatrixCache(Path directory) {
+        this.directory = directory;
+    }
+
+    public synchronized PatternMatrix get(WordBank bank, WordLength wordLength) {
+        var perLength = matrices.computeIfAbsent(bank, b -> new EnumMap<>(WordLength.class));
+        var matrix = perLength.get(wordLength);
+        if (matrix == null) {
+            matrix = load(bank, wordLength);
+            perLength.put(wordLength, matrix);
+        }
+        return matrix;
+    }
+
+    private PatternMatrix load(WordBank bank, WordLength wordLength) {
+        int[] guesses = bank.packedGuesses(wordLength);
+        int[] answers = bank.packedAnswers(wordLength);
+        if (directory == null) {
+            return PatternMatrix.build(guesses, answers, wordLength.length());
+        }
+        Path file = directory.resolve("patterns-" + bank.name() + "-" + wordLength.name() + ".bin");
+        try {
+            return PatternMatrix.loadOrBuild(file, guesses, answers, wordLength.length());
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to load pattern matrix " + file, e);
+        }
+    }
+}
@@ -0,0 +1,12 @@
+package controller;
+
+import java.util.List;
+import model.enums.WordLength;
+
+/**
+ * Word service that can answer prefix queries, so partially typed guesses can be checked per keystroke.
+ */
+public interface PrefixWordService extends WordService {
+    boolean hasPrefix(CharSequence prefix, WordLength wordLength);
+    List<String> completions(CharSequence prefix, WordLength wordLength, int limit);
+}
@@ -0,0 +1,43 @@
+package controller;
+
+import java.util.Random;
+
+/**
+ * Draws indices 0..size-1 without repetition until every index has been drawn, then starts over.
+ * Each draw is one incremental Fisher-Yates step, so it is O(1) and allocation-free.
+ */
+final class ShuffleBag {
+
+    private final int[] order;
+    private final Random random;
+    private int remaining;
+
+    ShuffleBag(int size, Random random) {
+        this.order = new int[size];
+        for (int i = 0; i < size; i++) {
+            order[i] = i;
+        }
+        this.random = random;
+        this.remaining = size;
+    }
+
+    int size() {
+        return order.length;
+    }
+
+    synchronized int next() {
+        if (order.length == 0) {
+            throw new IllegalStateException("Shuffle bag is empty");
+        }
+        if (remaining == 0) {
+            remaining = order.length;
+        }
+        int pick = random.nextInt(remaining);
+        int last = remaining - 1;
+        int drawn = order[pick];
+        order[pick] = order[last];
+        order[last] = drawn;
+        remaining = last;
+        return drawn;
+    }
+}
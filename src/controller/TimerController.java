@@ -1,9 +1,8 @@
 package controller;
 
 import controller.events.PlayerSlot;
-import java.util.HashMap;
+import java.util.Arrays;
 import java.util.HashSet;
-import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 import java.util.concurrent.Executors;
@@ -13,33 +12,61 @@ import java.util.concurrent.TimeUnit;
 
 /**
  * Timer implementation backed by a ScheduledExecutor (no Swing dependency).
+ *
+ * The running slot keeps a {@link System#nanoTime()} deadline and the stopped slots their
+ * remaining nanoseconds, so {@link #getRemainingFor} is computed on demand and scheduling delays
+ * never drift the clock. Expiry is one wakeup at the deadline. Countdown updates to listeners are
+ * opt-in at a fixed display interval; without them a turn costs no wakeups until it expires.
  */
 public class TimerController implements TurnTimer {
 
+    private static final long NO_DISPLAY = 0;
+
     private final ScheduledExecutorService executor;
-    private final long tickMillis;
-    private ScheduledFuture<?> ticker;
-    private final Map<PlayerSlot, Integer> remainingSeconds = new HashMap<>();
+    private final long secondNanos;
+    private final long displayNanos;
+    private final long[] remainingNanos = new long[PlayerSlot.values().length];
     private final Set<Listener> listeners = new HashSet<>();
     private PlayerSlot activeSlot;
+    private long deadline;
+    // Bumped on every start/stop so a late expiry or display task from an earlier turn does nothing
+    private long turn;
+    private ScheduledFuture<?> expiry;
+    private ScheduledFuture<?> display;
+    // When the running turn's display updates are due: first one at displayStart + displayNanos
+    private long displayStart;
+    private long displaysSent;
 
     /**
-     * Constructs a timer with a 1-second tick interval.
+     * Constructs a timer that only reports expiry.
      */
     public TimerController() {
+        this(NO_DISPLAY);
+    }
+
+    /**
+     * @param displayIntervalMillis how often the running clock is reported to listeners; 0 for never
+     */
+    public TimerController(long displayIntervalMillis) {
         this(Executors.newSingleThreadScheduledExecutor(r -> {
             Thread t = new Thread(r, "TurnTimer");
             t.setDaemon(true);
             return t;
-        }), 1000);
+        }), 1000, displayIntervalMillis);
     }
 
     /**
-     * Package-private constructor for tests to inject executor and tick interval.
+     * Package-private constructor for tests to inject executor and a shorter second,
+     * reported once per second.
      */
-    TimerController(ScheduledExecutorService executor, long tickMillis) {
+    TimerController(ScheduledExecutorService executor, long secondMillis) {
+        this(executor, secondMillis, secondMillis);
+    }
+
+    TimerController(ScheduledExecutorService executor, long secondMillis, long displayIntervalMillis) {
         this.executor = Objects.requireNonNull(executor, "executor");
-        this.tickMillis = tickMillis;
+        this.secondNanos = TimeUnit.MILLISECONDS.toNanos(secondMillis);
+        this.displayNanos = TimeUnit.MILLISECONDS.toNanos(displayIntervalMillis);
     }
 
     @Override
@@ -57,77 +84,139 @@ public class TimerController implements TurnTimer {
     }
 
     @Override
-    public synchronized void setTimeForPlayer(PlayerSlot slot, int seconds) {
+    public void setTimeForPlayer(PlayerSlot slot, int seconds) {
         if (slot == null) return;
-        remainingSeconds.put(slot, seconds);
-        notifyUpdate(slot);
+        synchronized (this) {
+            remainingNanos[slot.ordinal()] = seconds * secondNanos;
+            if (slot == activeSlot) {
+                deadline = System.nanoTime() + remainingNanos[slot.ordinal()];
+                scheduleExpiry();
+            }
+        }
+        notifyUpdate(slot, seconds);
     }
 
+    /**
+     * Whole seconds left, rounded up so a clock reads zero only once it has expired.
+     */
     @Override
     public synchronized int getRemainingFor(PlayerSlot slot) {
         if (slot == null) return 0;
-        return remainingSeconds.getOrDefault(slot, 0);
+        long nanos = remainingNanos(slot);
+        return nanos <= 0 ? 0 : (int) ((nanos + secondNanos - 1) / secondNanos);
+    }
+
+    private long remainingNanos(PlayerSlot slot) {
+        return slot == activeSlot ? Math.max(0, deadline - System.nanoTime()) : remainingNanos[slot.ordinal()];
     }
 
     @Override
     public synchronized void start(PlayerSlot slot) {
         if (slot == null) return;
-        this.activeSlot = slot;
-        if (ticker != null) {
-            ticker.cancel(false);
+        stop();
+        activeSlot = slot;
+        long now = System.nanoTime();
+        deadline = now + remainingNanos[slot.ordinal()];
+        if (displayNanos > NO_DISPLAY) {
+            // Scheduled first so an update due before the deadline also runs before the expiry
+            displayStart = now;
+            displaysSent = 0;
+            long thisTurn = turn;
+            Runnable task = () -> displayScheduled(thisTurn);
+            long firstDelay = Math.max(0, now + displayNanos - System.nanoTime());
+            display = executor.scheduleAtFixedRate(task, firstDelay, displayNanos, TimeUnit.NANOSECONDS);
         }
-        ticker = executor.scheduleAtFixedRate(this::tickScheduled, tickMillis, tickMillis, TimeUnit.MILLISECONDS);
+        scheduleExpiry();
     }
 
     @Override
     public synchronized void stop() {
-        if (ticker != null) {
-            ticker.cancel(false);
-            ticker = null;
+        turn++;
+        cancel(expiry);
+        cancel(display);
+        expiry = null;
+        display = null;
+        if (activeSlot != null) {
+            remainingNanos[activeSlot.ordinal()] = remainingNanos(activeSlot);
+            activeSlot = null;
         }
-        this.activeSlot = null;
     }
 
     @Override
     public synchronized void reset() {
         stop();
-        remainingSeconds.clear();
+        Arrays.fill(remainingNanos, 0);
     }
 
-    private void tickScheduled() {
-        PlayerSlot slotSnapshot;
-        synchronized (this) {
-            slotSnapshot = activeSlot;
-        }
-        if (slotSnapshot != null) {
-            tick(slotSnapshot);
+    private void scheduleExpiry() {
+        cancel(expiry);
+        if (remainingNanos[activeSlot.ordinal()] <= 0) {
+            // Nothing left to count down; the turn simply never expires, as before
+            expiry = null;
+            return;
         }
+        long thisTurn = turn;
+        expiry = executor.schedule(() -> expiryScheduled(thisTurn),
+                Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
     }
 
-    private synchronized void tick(PlayerSlot slot) {
-        Objects.requireNonNull(slot, "slot");
-        var current = getRemainingFor(slot);
-        if (current <= 0) {
-            return;
+    private static void cancel(ScheduledFuture<?> future) {
+        if (future != null) {
+            future.cancel(false);
         }
-        var updated = current - 1;
-        remainingSeconds.put(slot, updated);
-        if (updated <= 0) {
+    }
+
+    /**
+     * Notifies after releasing the lock, so a listener may take its own lock (and call back into
+     * the timer) without a lock-order inversion. The notification can therefore trail a reset or
+     * restart; listeners confirm it against {@link #getRemainingFor}.
+     */
+    private void expiryScheduled(long expectedTurn) {
+        PlayerSlot slot;
+        synchronized (this) {
+            if (turn != expectedTurn || activeSlot == null) {
+                return;
+            }
+            long left = deadline - System.nanoTime();
+            if (left > 0) {
+                // Woken early; sleep until the real deadline
+                expiry = executor.schedule(() -> expiryScheduled(expectedTurn), left, TimeUnit.NANOSECONDS);
+                return;
+            }
+            slot = activeSlot;
             stop();
-            notifyExpired(slot);
-        } else {
-            notifyUpdate(slot);
+            remainingNanos[slot.ordinal()] = 0;
+        }
+        notifyExpired(slot);
+    }
+
+    private void displayScheduled(long expectedTurn) {
+        PlayerSlot slot;
+        int seconds;
+        synchronized (this) {
+            if (turn != expectedTurn || activeSlot == null) {
+                return;
+            }
+            slot = activeSlot;
+            // Report the clock as of when this update was due, so a late run still shows the
+            // second it was meant to rather than being skipped once the deadline has passed
+            long due = displayStart + ++displaysSent * displayNanos;
+            long left = deadline - due;
+            seconds = left <= 0 ? 0 : (int) ((left + secondNanos - 1) / secondNanos);
+        }
+        if (seconds > 0) {
+            notifyUpdate(slot, seconds);
         }
     }
 
-    private void notifyUpdate(PlayerSlot slot) {
+    private void notifyUpdate(PlayerSlot slot, int seconds) {
         // copy to avoid concurrent modification if listeners mutate set
         Listener[] snapshot;
         synchronized (this) {
             snapshot = listeners.toArray(Listener[]::new);
         }
         for (Listener l : snapshot) {
-            l.onTimeUpdated(slot, getRemainingFor(slot));
+            l.onTimeUpdated(slot, seconds);
         }
     }
 
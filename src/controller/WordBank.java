@@ -0,0 +1,375 @@
+package controller;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import model.PackedWord;
+import model.enums.WordLength;
+import util.Constants;
+
+/**
+ * Immutable dictionary snapshot: one packed index per word length plus load accounting.
+ * Built once and shared by reference between any number of services and games.
+ *
+ * A bank holds two corpora: a curated answer list that targets are picked from, and an optional
+ * (typically much larger) list of extra allowed guesses. Probes into the guess list sit behind a
+ * per-length Bloom filter, so most invalid words are rejected without touching it.
+ */
+public final class WordBank {
+
+    public static final String DEFAULT_NAME = "words";
+    public static final String DEFAULT_GUESSES_NAME = "guesses";
+    static final double GUESS_FILTER_FALSE_POSITIVE_RATE = 0.01;
+
+    // Hardcoded word bank for testing and fallback
+    private static final Map<WordLength, Set<String>> DEFAULT_WORDS = Map.of(
+            WordLength.three, Set.of("CAT", "SUN", "MAP"),
+            WordLength.four, Set.of("TREE", "LION", "BOAT"),
+            WordLength.five, Set.of("APPLE", "GRAPE", "PLANE", "BREAD"),
+            WordLength.six, Set.of("ORANGE", "PLANET", "STREAM")
+    );
+
+    private final String name;
+    private final Map<WordLength, PackedWordIndex> indexes;
+    private final Map<WordLength, PackedWordIndex> guessIndexes;
+    // Built lazily per length so mapping a large compiled guess list stays cheap at startup.
+    private final Map<WordLength, BloomFilter> guessFilters = new ConcurrentHashMap<>();
+    private final long loadNanos;
+
+    private WordBank(String name, Map<WordLength, PackedWordIndex> indexes, long loadNanos) {
+        this(name, indexes, Map.of(), loadNanos);
+    }
+
+    private WordBank(String name, Map<WordLength, PackedWordIndex> indexes,
+                     Map<WordLength, PackedWordIndex> guessIndexes, long loadNanos) {
+        this.name = name;
+        this.indexes = Collections.unmodifiableMap(new EnumMap<>(indexes));
+        this.guessIndexes = guessIndexes.isEmpty()
+                ? Map.of()
+                : Collections.unmodifiableMap(new EnumMap<>(guessIndexes));
+        this.loadNanos = loadNanos;
+    }
+
+    /**
+     * Loads the bundled word list, falling back to the built-in defaults.
+     */
+    public static WordBank standard() {
+        WordBank bank = fromResources(DEFAULT_NAME, DEFAULT_GUESSES_NAME);
+        if (bank.isEmpty()) {
+            System.out.println("Using default word bank as file loading failed or returned empty.");
+            return defaults();
+        }
+        return bank;
+    }
+
+    public static WordBank defaults() {
+        List<String> words = new ArrayList<>();
+        DEFAULT_WORDS.values().forEach(words::addAll);
+        return fromWords("defaults", words);
+    }
+
+    public static WordBank fromWords(String name, Collection<String> words) {
+        return fromWords(name, words, List.of());
+    }
+
+    /**
+     * @param answers        words that may be picked as targets (also valid guesses)
+     * @param allowedGuesses extra words accepted as guesses but never picked
+     */
+    public static WordBank fromWords(String name, Collection<String> answers, Collection<String> allowedGuesses) {
+        long start = System.nanoTime();
+        return new WordBank(name, toIndexes(groupByLength(answers)), toIndexes(groupByLength(allowedGuesses)),
+                System.nanoTime() - start);
+    }
+
+    private static Map<WordLength, List<String>> groupByLength(Collection<String> words) {
+        Map<WordLength, List<String>> byLength = new EnumMap<>(WordLength.class);
+        for (String raw : words) {
+            if (raw == null) continue;
+            String word = raw.trim();
+            WordLength wordLength = lengthOf(word.length());
+            if (wordLength != null) {
+                byLength.computeIfAbsent(wordLength, k -> new ArrayList<>()).add(word);
+            }
+        }
+        return byLength;
+    }
+
+    /**
+     * Loads an answer list and an optional allowed-guess list from classpath resources.
+     */
+    public static WordBank fromResources(String answersName, String guessesName) {
+        long start = System.nanoTime();
+        WordBank answers = fromResource(answersName);
+        if (guessesName == null || !resourceExists(guessesName)) {
+            return answers;
+        }
+        WordBank guesses = fromResource(guessesName);
+        return new WordBank(answersName, answers.indexes, guesses.indexes, System.nanoTime() - start);
+    }
+
+    private static boolean resourceExists(String name) {
+        String base = "/" + Constants.RESOURCES_PATH + name;
+        return WordBank.class.getResource(base + ".txt") != null || WordBank.class.getResource(base + ".bin") != null;
+    }
+
+    /**
+     * Loads "name.bin" (see {@link DictionaryCompiler}) when it is a plain, up-to-date file on the
+     * classpath, otherwise parses "name.txt". Returns an empty bank if neither can be read.
+     */
+    public static WordBank fromResource(String name) {
+        long start = System.nanoTime();
+        String base = "/" + Constants.RESOURCES_PATH + name;
+        URL compiled = WordBank.class.getResource(base + ".bin");
+        if (compiled != null && "file".equals(compiled.getProtocol())) {
+            try {
+                Path compiledPath = Paths.get(compiled.toURI());
+                if (isCurrent(compiledPath, compiledPath.resolveSibling(name + ".txt"))) {
+                    var indexes = DictionaryCompiler.map(compiledPath);
+                    if (!indexes.isEmpty()) {
+                        return new WordBank(name, indexes, System.nanoTime() - start);
+                    }
+                } else {
+                    System.err.println("Ignoring stale " + compiledPath + "; recompile it from " + name + ".txt.");
+                }
+            } catch (Exception e) {
+                System.err.println("Failed to map compiled word bank, falling back to text: " + e.getMessage());
+            }
+        }
+        try (InputStream in = WordBank.class.getResourceAsStream(base + ".txt")) {
+            if (in == null) {
+                throw new IOException("resource " + base + ".txt not found");
+            }
+            var indexes = readWordList(new BufferedReader(new InputStreamReader(in)));
+            return new WordBank(name, indexes, System.nanoTime() - start);
+        } catch (IOException e) {
+            System.err.println("Failed to load word bank from file: " + e.getMessage());
+            return new WordBank(name, Map.of(), System.nanoTime() - start);
+        }
+    }
+
+    /**
+     * Loads a word list from disk; ".bin" files are mapped, anything else is parsed as text.
+     */
+    public static WordBank fromPath(String name, Path file) throws IOException {
+        long start = System.nanoTime();
+        if (file.getFileName().toString().endsWith(".bin")) {
+            return new WordBank(name, DictionaryCompiler.map(file), System.nanoTime() - start);
+        }
+        try (BufferedReader reader = Files.newBufferedReader(file)) {
+            return new WordBank(name, readWordList(reader), System.nanoTime() - start);
+        }
+    }
+
+    /**
+     * Loads an answer list and an optional allowed-guess list from disk.
+     */
+    public static WordBank fromPaths(String name, Path answersFile, Path guessesFile) throws IOException {
+        long start = System.nanoTime();
+        WordBank answers = fromPath(name, answersFile);
+        if (guessesFile == null) {
+            return answers;
+        }
+        WordBank guesses = fromPath(name, guessesFile);
+        return new WordBank(name, answers.indexes, guesses.indexes, System.nanoTime() - start);
+    }
+
+    private static boolean isCurrent(Path compiled, Path source) throws IOException {
+        return !Files.exists(source)
+                || Files.getLastModifiedTime(source).compareTo(Files.getLastModifiedTime(compiled)) <= 0;
+    }
+
+    /**
+     * Parses a plain word list (one word per line, '#' comments) into per-length indexes.
+     */
+    static Map<WordLength, PackedWordIndex> readWordList(BufferedReader reader) throws IOException {
+        Map<WordLength, List<String>> byLength = new EnumMap<>(WordLength.class);
+        String line;
+        while ((line = reader.readLine()) != null) {
+            String word = line.trim();
+            if (word.isEmpty() || word.startsWith("#")) continue;
+            WordLength wordLength = lengthOf(word.length());
+            if (wordLength != null) {
+                byLength.computeIfAbsent(wordLength, k -> new ArrayList<>()).add(word);
+            }
+        }
+        return toIndexes(byLength);
+    }
+
+    private static Map<WordLength, PackedWordIndex> toIndexes(Map<WordLength, List<String>> byLength) {
+        Map<WordLength, PackedWordIndex> indexes = new EnumMap<>(WordLength.class);
+        byLength.forEach((wordLength, words) -> {
+            var index = PackedWordIndex.of(wordLength, words);
+            if (!index.isEmpty()) {
+                indexes.put(wordLength, index);
+            }
+        });
+        return indexes;
+    }
+
+    static WordLength lengthOf(int length) {
+        for (WordLength wl : WordLength.values()) {
+            if (wl.length() == length) {
+                return wl;
+            }
+        }
+        return null;
+    }
+
+    public String name() {
+        return name;
+    }
+
+    public boolean isEmpty() {
+        return indexes.isEmpty();
+    }
+
+    /**
+     * Total entries across both lists (a word present in both counts twice).
+     */
+    public int wordCount() {
+        return indexes.values().stream().mapToInt(PackedWordIndex::size).sum()
+                + guessIndexes.values().stream().mapToInt(PackedWordIndex::size).sum();
+    }
+
+    /**
+     * Number of answer words (pickable targets) of the given length.
+     */
+    public int wordCount(WordLength wordLength) {
+        var index = indexes.get(wordLength);
+        return index == null ? 0 : index.size();
+    }
+
+    /**
+     * Approximate bytes held by this snapshot's indexes and any Bloom filters built so far.
+     */
+    public long footprintBytes() {
+        return indexes.values().stream().mapToLong(PackedWordIndex::footprintBytes).sum()
+                + guessIndexes.values().stream().mapToLong(PackedWordIndex::footprintBytes).sum()
+                + guessFilters.values().stream().mapToLong(BloomFilter::footprintBytes).sum();
+    }
+
+    /**
+     * Wall-clock time spent building or mapping this snapshot.
+     */
+    public long loadNanos() {
+        return loadNanos;
+    }
+
+    /**
+     * Answer index for a length (the words targets are picked from).
+     */
+    PackedWordIndex index(WordLength wordLength) {
+        return indexes.get(wordLength);
+    }
+
+    /**
+     * Extra allowed-guess index for a length, or null if the bank has none.
+     */
+    PackedWordIndex guessIndex(WordLength wordLength) {
+        return guessIndexes.get(wordLength);
+    }
+
+    /**
+     * True if the word is an answer or an allowed guess of the given length.
+     */
+    boolean isValid(CharSequence word, WordLength wordLength) {
+        if (word == null || word.length() != wordLength.length()) {
+            return false;
+        }
+        int packed = PackedWord.encode(word);
+        if (packed == PackedWord.INVALID) {
+            return false;
+        }
+        var answers = indexes.get(wordLength);
+        if (answers != null && answers.contains(packed)) {
+            return true;
+        }
+        var guesses = guessIndexes.get(wordLength);
+        return guesses != null && guessFilter(wordLength, guesses).mightContain(packed) && guesses.contains(packed);
+    }
+
+    boolean hasPrefix(CharSequence prefix, WordLength wordLength) {
+        var answers = indexes.get(wordLength);
+        if (answers != null && answers.hasPrefix(prefix)) {
+            return true;
+        }
+        var guesses = guessIndexes.get(wordLength);
+        return guesses != null && guesses.hasPrefix(prefix);
+    }
+
+    List<String> completions(CharSequence prefix, WordLength wordLength, int limit) {
+        var answers = indexes.get(wordLength);
+        var guesses = guessIndexes.get(wordLength);
+        List<String> matches = new ArrayList<>(answers == null ? List.of() : answers.completions(prefix, limit));
+        if (guesses != null) {
+            matches.addAll(guesses.completions(prefix, limit));
+            matches = new ArrayList<>(new TreeSet<>(matches));
+        }
+        return matches.size() > limit ? matches.subList(0, limit) : matches;
+    }
+
+    /**
+     * Sorted packed answer words of a length (a fresh copy).
+     */
+    int[] packedAnswers(WordLength wordLength) {
+        var answers = indexes.get(wordLength);
+        int[] words = new int[answers == null ? 0 : answers.size()];
+        if (answers != null) answers.copyTo(words, 0);
+        return words;
+    }
+
+    /**
+     * Sorted packed words accepted as guesses (answers plus allowed guesses, without duplicates).
+     */
+    int[] packedGuesses(WordLength wordLength) {
+        int[] answers = packedAnswers(wordLength);
+        var guesses = guessIndexes.get(wordLength);
+        if (guesses == null) {
+            return answers;
+        }
+        int[] merged = new int[answers.length + guesses.size()];
+        System.arraycopy(answers, 0, merged, 0, answers.length);
+        guesses.copyTo(merged, answers.length);
+        return Arrays.stream(merged).sorted().distinct().toArray();
+    }
+
+    private BloomFilter guessFilter(WordLength wordLength, PackedWordIndex guesses) {
+        var filter = guessFilters.get(wordLength);
+        if (filter != null) {
+            return filter;
+        }
+        return guessFilters.computeIfAbsent(wordLength, k -> {
+            var built = BloomFilter.forCapacity(guesses.size(), GUESS_FILTER_FALSE_POSITIVE_RATE);
+            for (int i = 0; i < guesses.size(); i++) {
+                built.add(guesses.packedAt(i));
+            }
+            return built;
+        });
+    }
+
+    Map<WordLength, PackedWordIndex> indexes() {
+        return indexes;
+    }
+
+    @Override
+    public String toString() {
+        return "WordBank[" + name + ", " + wordCount() + " words, " + footprintBytes() + " bytes, "
+                + (loadNanos / 1_000_000) + " ms]";
+    }
+}
@@ -0,0 +1,163 @@
+package controller;
+
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Watches a word list on disk and swaps a rebuilt {@link WordBank} into a {@link DictionaryService}.
+ * The new bank is built entirely on the watcher thread and published with one volatile write,
+ * so lookups never block and never see a half-built dictionary.
+ *
+ * Editors and copies write a file in several steps, so a change is only reloaded once the files'
+ * sizes and modification times have held still for a short quiet period. A list that comes out
+ * empty or less than half the size of the current bank is treated as a bad write and ignored.
+ */
+public final class WordListReloader implements AutoCloseable {
+
+    private static final long QUIET_MILLIS = 500;
+    private static final int MIN_KEPT_DIVISOR = 2;
+
+    private final Path file;
+    private final Path guessesFile;
+    private final DictionaryService target;
+    private WatchService watchService;
+    private Thread watcher;
+
+    public WordListReloader(Path file, DictionaryService target) {
+        this(file, null, target);
+    }
+
+    /**
+     * @param file        answer list
+     * @param guessesFile optional allowed-guess list; a change to either file triggers a rebuild
+     */
+    public WordListReloader(Path file, Path guessesFile, DictionaryService target) {
+        this.file = Objects.requireNonNull(file, "file").toAbsolutePath();
+        this.guessesFile = guessesFile == null ? null : guessesFile.toAbsolutePath();
+        this.target = Objects.requireNonNull(target, "target");
+    }
+
+    public synchronized void start() throws IOException {
+        if (watcher != null) return;
+        watchService = FileSystems.getDefault().newWatchService();
+        file.getParent().register(watchService,
+                StandardWatchEventKinds.ENTRY_CREATE, StandardWatchEventKinds.ENTRY_MODIFY);
+        if (guessesFile != null && !guessesFile.getParent().equals(file.getParent())) {
+            guessesFile.getParent().register(watchService,
+                    StandardWatchEventKinds.ENTRY_CREATE, StandardWatchEventKinds.ENTRY_MODIFY);
+        }
+        watcher = new Thread(this::watch, "WordListReloader");
+        watcher.setDaemon(true);
+        watcher.start();
+    }
+
+    @Override
+    public synchronized void close() {
+        if (watcher == null) return;
+        try {
+            watchService.close();
+        } catch (IOException e) {
+            System.err.println("Error closing word list watcher: " + e.getMessage());
+        }
+        watcher.interrupt();
+        watcher = null;
+    }
+
+    private void watch() {
+        try {
+            while (!Thread.currentThread().isInterrupted()) {
+                WatchKey key = watchService.take();
+                boolean changed = false;
+                Path dir = (Path) key.watchable();
+                for (WatchEvent<?> event : key.pollEvents()) {
+                    if (event.context() instanceof Path changedFile) {
+                        Path changedPath = dir.resolve(changedFile);
+                        changed |= changedPath.equals(file) || changedPath.equals(guessesFile);
+                    }
+                }
+                key.reset();
+                if (changed) {
+                    awaitQuiet();
+                    reloadNow();
+                }
+            }
+        } catch (InterruptedException | ClosedWatchServiceException e) {
+            // closed: stop watching
+        }
+    }
+
+    /**
+     * Waits until no further events arrive and the watched files stop changing for
+     * {@link #QUIET_MILLIS}, so a file that is still being written is not read half-way.
+     */
+    private void awaitQuiet() throws InterruptedException {
+        while (true) {
+            var before = stamp();
+            WatchKey more = watchService.poll(QUIET_MILLIS, TimeUnit.MILLISECONDS);
+            if (more != null) {
+                more.pollEvents();
+                more.reset();
+            } else if (before.equals(stamp())) {
+                return;
+            }
+        }
+    }
+
+    private List<Long> stamp() {
+        return guessesFile == null
+                ? List.of(size(file), modified(file))
+                : List.of(size(file), modified(file), size(guessesFile), modified(guessesFile));
+    }
+
+    private static long size(Path path) {
+        try {
+            return Files.size(path);
+        } catch (IOException e) {
+            return -1;
+        }
+    }
+
+    private static long modified(Path path) {
+        try {
+            return Files.getLastModifiedTime(path).toMillis();
+        } catch (IOException e) {
+            return -1;
+        }
+    }
+
+    /**
+     * Rebuilds the bank from the file and publishes it; keeps the current bank if the file is unusable
+     * or shrank to less than half the current word count.
+     */
+    boolean reloadNow() {
+        try {
+            WordBank current = target.getWordBank();
+            WordBank bank = WordBank.fromPaths(current.name(), file, guessesFile);
+            if (bank.isEmpty()) {
+                System.err.println("Ignoring empty word list " + file);
+                return false;
+            }
+            if ((long) bank.wordCount() * MIN_KEPT_DIVISOR < current.wordCount()) {
+                System.err.println("Ignoring word list " + file + ": " + bank.wordCount()
+                        + " words would replace " + current.wordCount());
+                return false;
+            }
+            target.replaceWordBank(bank);
+            System.out.println("Reloaded " + bank);
+            return true;
+        } catch (IOException | RuntimeException e) {
+            System.err.println("Failed to reload word list " + file + ": " + e.getMessage());
+            return false;
+        }
+    }
+}
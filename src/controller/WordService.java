@@ -1,8 +1,26 @@
 package controller;
 
+import model.enums.HardnessBand;
 import model.enums.WordLength;
 
 public interface WordService {
     String pickWord(WordLength wordLength);
+
+    /**
+     * Picks a word from the given hardness band. Services without hardness data, and a null band,
+     * fall back to {@link #pickWord(WordLength)}.
+     */
+    default String pickWord(WordLength wordLength, HardnessBand band) {
+        return pickWord(wordLength);
+    }
+
     boolean isValidWord(String word, WordLength wordLength);
+
+    /**
+     * Returns a service that keeps answering from the dictionary as it is now,
+     * even if this service is reloaded later. Static services return themselves.
+     */
+    default WordService snapshot() {
+        return this;
+    }
 }
@@ -0,0 +1,295 @@
+package controller;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import model.GamePlayer;
+import model.GameState;
+import model.GuessEntry;
+import model.HardWordEntry;
+import model.PackedWord;
+import model.WordChoice;
+
+/**
+ * Per-word difficulty measured from finished games, updated as each game ends.
+ *
+ * Counters live in parallel primitive arrays behind an open-addressing table keyed by the packed
+ * target word. A word's hardness is its mean number of guesses per attempt, where an attempt that
+ * never found the word counts as {@link #UNSOLVED_GUESSES} guesses. The K hardest words are kept
+ * in an indexed min-heap, so each recorded attempt costs O(log K). Only when a tracked word drops
+ * below the easiest tracked score is the table rescanned once for the hardest untracked word.
+ */
+public final class WordStatsAggregator {
+
+    static final int UNSOLVED_GUESSES = 10;
+    private static final int EMPTY = -1;
+    private static final int NOT_IN_HEAP = -1;
+
+    private final int topK;
+
+    // Open-addressing table: keys[slot] is EMPTY or a word key (see key()); counters share the slot.
+    private int[] keys;
+    private int[] attempts;
+    private int[] solves;
+    private long[] guesses;
+    private int[] heapIndex;
+    private int size;
+
+    // Min-heap of slots by hardness; heap[0] is the easiest of the tracked hardest words.
+    private final int[] heap;
+    private int heapSize;
+
+    public WordStatsAggregator(int topK) {
+        if (topK <= 0) {
+            throw new IllegalArgumentException("topK must be positive");
+        }
+        this.topK = topK;
+        this.heap = new int[topK];
+        allocate(64);
+    }
+
+    /**
+     * Adds one attempt per human player who guessed at least once in a finished game.
+     */
+    public synchronized void recordGame(GameState state) {
+        if (state == null || state.getConfig() == null) {
+            return;
+        }
+        var config = state.getConfig();
+        for (GamePlayer player : new GamePlayer[] {config.playerOne(), config.playerTwo()}) {
+            if (player == null || !player.human()) {
+                continue;
+            }
+            WordChoice target = state.wordFor(player);
+            if (target == null || target.word() == null) {
+                continue;
+            }
+            int guessCount = 0;
+            boolean solved = false;
+            for (GuessEntry entry : state.getGuesses()) {
+                if (player.equals(entry.player())) {
+                    guessCount++;
+                    solved |= entry.result().exactMatch();
+                }
+            }
+            if (guessCount > 0) {
+                recordAttempt(target.word(), guessCount, solved);
+            }
+        }
+    }
+
+    public synchronized void recordAttempt(String word, int guessCount, boolean solved) {
+        int key = key(word);
+        if (key == EMPTY) {
+            return;
+        }
+        int slot = slotFor(key);
+        boolean tracked = heapIndex[slot] != NOT_IN_HEAP;
+        double floor = heapSize == topK ? hardness(heap[0]) : 0;
+        attempts[slot]++;
+        if (solved) {
+            solves[slot]++;
+            guesses[slot] += guessCount;
+        } else {
+            guesses[slot] += Math.max(guessCount, UNSOLVED_GUESSES);
+        }
+        offer(slot);
+        if (tracked && heapSize == topK && hardness(slot) < floor) {
+            promoteHardestUntracked();
+        }
+    }
+
+    public synchronized int attempts(String word) {
+        int slot = find(key(word));
+        return slot < 0 ? 0 : attempts[slot];
+    }
+
+    public synchronized double solveRate(String word) {
+        int slot = find(key(word));
+        return slot < 0 ? 0 : (double) solves[slot] / attempts[slot];
+    }
+
+    public synchronized double meanGuesses(String word) {
+        int slot = find(key(word));
+        return slot < 0 ? 0 : hardness(slot);
+    }
+
+    /**
+     * The K hardest words recorded so far, hardest first and alphabetical among equal scores.
+     */
+    public synchronized List<HardWordEntry> hardest() {
+        Integer[] slots = new Integer[heapSize];
+        for (int i = 0; i < heapSize; i++) slots[i] = heap[i];
+        Arrays.sort(slots, Comparator.comparingDouble((Integer s) -> hardness(s)).reversed()
+                .thenComparing(s -> word(s)));
+        List<HardWordEntry> ranked = new ArrayList<>(slots.length);
+        for (int i = 0; i < slots.length; i++) {
+            double score = Math.round(hardness(slots[i]) * 100) / 100.0;
+            ranked.add(new HardWordEntry(i + 1, word(slots[i]), score));
+        }
+        return ranked;
+    }
+
+    private double hardness(int slot) {
+        return (double) guesses[slot] / attempts[slot];
+    }
+
+    // --- Top-K heap ---
+
+    private void offer(int slot) {
+        int position = heapIndex[slot];
+        if (position != NOT_IN_HEAP) {
+            // Its score moved either way; restore heap order around it
+            siftDown(siftUp(position));
+        } else if (heapSize < topK) {
+            heap[heapSize] = slot;
+            heapIndex[slot] = heapSize;
+            siftUp(heapSize++);
+        } else if (hardness(slot) > hardness(heap[0])) {
+            heapIndex[heap[0]] = NOT_IN_HEAP;
+            heap[0] = slot;
+            heapIndex[slot] = 0;
+            siftDown(0);
+        }
+    }
+
+    /**
+     * A tracked word got easier than every word the heap held, so the hardest word outside the
+     * heap may now belong in it. At most one word changes places, since only one score moved.
+     */
+    private void promoteHardestUntracked() {
+        int best = -1;
+        for (int slot = 0; slot < keys.length; slot++) {
+            if (keys[slot] != EMPTY && heapIndex[slot] == NOT_IN_HEAP
+                    && (best < 0 || hardness(slot) > hardness(best))) {
+                best = slot;
+            }
+        }
+        if (best >= 0 && hardness(best) > hardness(heap[0])) {
+            heapIndex[heap[0]] = NOT_IN_HEAP;
+            heap[0] = best;
+            heapIndex[best] = 0;
+            siftDown(0);
+        }
+    }
+
+    private int siftUp(int position) {
+        while (position > 0) {
+            int parent = (position - 1) / 2;
+            if (hardness(heap[parent]) <= hardness(heap[position])) break;
+            swap(parent, position);
+            position = parent;
+        }
+        return position;
+    }
+
+    private void siftDown(int position) {
+        while (true) {
+            int smallest = position;
+            int left = 2 * position + 1;
+            int right = left + 1;
+            if (left < heapSize && hardness(heap[left]) < hardness(heap[smallest])) smallest = left;
+            if (right < heapSize && hardness(heap[right]) < hardness(heap[smallest])) smallest = right;
+            if (smallest == position) return;
+            swap(smallest, position);
+            position = smallest;
+        }
+    }
+
+    private void swap(int i, int j) {
+        int a = heap[i];
+        heap[i] = heap[j];
+        heap[j] = a;
+        heapIndex[heap[i]] = i;
+        heapIndex[heap[j]] = j;
+    }
+
+    // --- Word table ---
+
+    /**
+     * Packed word tagged with its length in the top two bits, or EMPTY for unpackable words.
+     */
+    private static int key(String word) {
+        if (word == null) return EMPTY;
+        String trimmed = word.trim();
+        int packed = PackedWord.encode(trimmed);
+        if (packed == PackedWord.INVALID || trimmed.length() < 3) return EMPTY;
+        return packed | ((trimmed.length() - 3) << 30);
+    }
+
+    private static String word(int key) {
+        int length = (key >>> 30) + 3;
+        return PackedWord.decode(key & ((1 << 30) - 1), length);
+    }
+
+    private String word(Integer slot) {
+        return word(keys[slot]);
+    }
+
+    private int find(int key) {
+        if (key == EMPTY) return -1;
+        int mask = keys.length - 1;
+        for (int slot = mix(key) & mask; ; slot = (slot + 1) & mask) {
+            if (keys[slot] == key) return slot;
+            if (keys[slot] == EMPTY) return -1;
+        }
+    }
+
+    private int slotFor(int key) {
+        if (2 * (size + 1) > keys.length) {
+            grow();
+        }
+        int mask = keys.length - 1;
+        int slot = mix(key) & mask;
+        while (keys[slot] != EMPTY && keys[slot] != key) {
+            slot = (slot + 1) & mask;
+        }
+        if (keys[slot] == EMPTY) {
+            keys[slot] = key;
+            size++;
+        }
+        return slot;
+    }
+
+    private static int mix(int key) {
+        int h = key * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+
+    private void allocate(int capacity) {
+        keys = new int[capacity];
+        Arrays.fill(keys, EMPTY);
+        attempts = new int[capacity];
+        solves = new int[capacity];
+        guesses = new long[capacity];
+        heapIndex = new int[capacity];
+        Arrays.fill(heapIndex, NOT_IN_HEAP);
+    }
+
+    private void grow() {
+        int[] oldKeys = keys;
+        int[] oldAttempts = attempts;
+        int[] oldSolves = solves;
+        long[] oldGuesses = guesses;
+        int[] oldHeapIndex = heapIndex;
+        allocate(oldKeys.length * 2);
+        size = 0;
+        int mask = keys.length - 1;
+        for (int old = 0; old < oldKeys.length; old++) {
+            if (oldKeys[old] == EMPTY) continue;
+            int slot = mix(oldKeys[old]) & mask;
+            while (keys[slot] != EMPTY) slot = (slot + 1) & mask;
+            keys[slot] = oldKeys[old];
+            attempts[slot] = oldAttempts[old];
+            solves[slot] = oldSolves[old];
+            guesses[slot] = oldGuesses[old];
+            size++;
+            int position = oldHeapIndex[old];
+            if (position != NOT_IN_HEAP) {
+                heap[position] = slot;
+                heapIndex[slot] = position;
+            }
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package controller.events;
+
+import java.util.Map;
+
+/**
+ * One incremental change to a game, for {@link GameDeltaListener}s. Deltas of a session are
+ * numbered in publish order; a listener that sees a gap (or joins late) starts again from a
+ * {@link Snapshot}.
+ */
+public interface GameDelta {
+
+    String gameId();
+
+    long sequence();
+
+    /**
+     * The whole game as of this sequence number; later deltas apply on top of it.
+     */
+    record Snapshot(String gameId, long sequence, GameUiModel model) implements GameDelta { }
+
+    /**
+     * A new guess at position {@code index}, with the remaining-answer counts after it.
+     */
+    record GuessAppended(String gameId, long sequence, int index, GuessView guess,
+                         Integer playerOneCandidatesLeft, Integer playerTwoCandidatesLeft) implements GameDelta { }
+
+    record StatusChanged(String gameId, long sequence, GameStatusView status, String winner, String provisionalWinner,
+                         Boolean winnerKnewWord, FinishStateView playerOneFinishState,
+                         FinishStateView playerTwoFinishState, FinishReasonView finishReason) implements GameDelta { }
+
+    record TurnChanged(String gameId, long sequence, String currentPlayer) implements GameDelta { }
+
+    /**
+     * Only the keys whose state changed.
+     */
+    record KeyboardChanged(String gameId, long sequence, Map<Character, LetterFeedbackView> changedKeys) implements GameDelta { }
+}
@@ -0,0 +1,10 @@
+package controller.events;
+
+/**
+ * Incremental alternative to {@link GameEventListener}: a snapshot on subscribe, on a new game
+ * and on resync, then only what changed.
+ */
+public interface GameDeltaListener {
+    void onDelta(GameDelta delta);
+    void onTimerEvent(TimerView timer);
+}
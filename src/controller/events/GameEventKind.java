@@ -3,5 +3,6 @@ package controller.events;
 public enum GameEventKind {
     gameStarted,
     gameStateUpdated,
-    gameFinished
+    gameFinished,
+    hintImproved
 }
@@ -24,5 +24,8 @@ public record GameUiModel(
         Integer playerOneRemaining,
         Integer playerTwoRemaining,
         List<GuessView> guesses,
-        KeyboardView keyboard
+        KeyboardView keyboard,
+        Integer playerOneCandidatesLeft,
+        Integer playerTwoCandidatesLeft,
+        String hint
 ) { }
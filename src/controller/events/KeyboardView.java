@@ -1,8 +1,67 @@
 package controller.events;
 
+import java.util.Arrays;
+import java.util.HashMap;
 import java.util.Map;
 
 /**
- * Immutable keyboard status map: letter -> feedback state.
+ * Immutable keyboard status: one feedback state per letter A-Z, {@link LetterFeedbackView#unused}
+ * for letters not guessed yet.
  */
-public record KeyboardView(Map<Character, LetterFeedbackView> keyStates) { }
+public final class KeyboardView {
+
+    private static final int LETTERS = 26;
+
+    private final LetterFeedbackView[] states;
+
+    private KeyboardView(LetterFeedbackView[] states) {
+        this.states = states;
+    }
+
+    /**
+     * @param states feedback per letter, index 0 is 'A'; copied, null entries read as unused
+     */
+    public static KeyboardView of(LetterFeedbackView[] states) {
+        if (states == null || states.length != LETTERS) {
+            throw new IllegalArgumentException("states must hold one entry per letter A-Z");
+        }
+        var copy = new LetterFeedbackView[LETTERS];
+        for (int i = 0; i < LETTERS; i++) {
+            copy[i] = states[i] == null ? LetterFeedbackView.unused : states[i];
+        }
+        return new KeyboardView(copy);
+    }
+
+    public LetterFeedbackView stateOf(char letter) {
+        int i = Character.toUpperCase(letter) - 'A';
+        return i >= 0 && i < LETTERS ? states[i] : LetterFeedbackView.unused;
+    }
+
+    /**
+     * The letters that have a state, as a map built on each call.
+     */
+    public Map<Character, LetterFeedbackView> keyStates() {
+        var keyStates = new HashMap<Character, LetterFeedbackView>();
+        for (int i = 0; i < LETTERS; i++) {
+            if (states[i] != LetterFeedbackView.unused) {
+                keyStates.put((char) ('A' + i), states[i]);
+            }
+        }
+        return Map.copyOf(keyStates);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return o instanceof KeyboardView other && Arrays.equals(states, other.states);
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(states);
+    }
+
+    @Override
+    public String toString() {
+        return "KeyboardView" + keyStates();
+    }
+}
@@ -26,8 +26,17 @@ public class GameState {
             WordLength wordLength,
             TimerDuration timerDuration,
             GamePlayer playerOne,
-            GamePlayer playerTwo
+            GamePlayer playerTwo,
+            String wordList
         ) {
+        /**
+         * Config using the default word list.
+         */
+        public GameConfig(GameMode mode, Difficulty difficulty, WordLength wordLength, TimerDuration timerDuration,
+                          GamePlayer playerOne, GamePlayer playerTwo) {
+            this(mode, difficulty, wordLength, timerDuration, playerOne, playerTwo, null);
+        }
+
         public static GameConfig withDefaults(GameMode mode, GamePlayer playerOne, GamePlayer playerTwo) {
             return new GameConfig(mode, Difficulty.normal, WordLength.five, TimerDuration.none, playerOne, playerTwo);
         }
@@ -180,6 +189,29 @@ public class GameState {
 
     public void addGuess(GuessEntry entry) {
         guesses.add(entry);
+        var letters = lettersFor(entry.player());
+        if (letters != null && entry.result() != null) {
+            letters.apply(entry.result(), config.difficulty() == Difficulty.expert);
+        }
+    }
+
+    public int guessCount() {
+        return guesses.size();
+    }
+
+    public GuessEntry guessAt(int index) {
+        return guesses.get(index);
+    }
+
+    /**
+     * Letter states revealed to this player by their own guesses, kept up to date by
+     * {@link #addGuess}; null for a player not in this game.
+     */
+    public LetterStates lettersFor(GamePlayer player) {
+        if (player == null) return null;
+        if (player.equals(config.playerOne())) return playerOneLetters;
+        if (player.equals(config.playerTwo())) return playerTwoLetters;
+        return null;
     }
 
     public WordChoice wordFor(GamePlayer player) {
@@ -278,6 +310,8 @@ public class GameState {
     GameStatus status;
     GamePlayer currentTurn;
     final List<GuessEntry> guesses;
+    private final LetterStates playerOneLetters = new LetterStates();
+    private final LetterStates playerTwoLetters = new LetterStates();
     GamePlayer winner;
     GamePlayer provisionalWinner;
     Boolean winnerKnewWord;
@@ -1,19 +1,111 @@
 package model;
 
 import java.util.List;
+import java.util.Objects;
 import model.enums.LetterFeedback;
+import model.rules.FeedbackPattern;
 
-public record GuessResult(String guess,
-                          List<LetterFeedback> feedback,
-                          int correctLetterCount,
-                          boolean exactMatch) {
+/**
+ * Immutable result of scoring one guess.
+ * Per-letter feedback is stored as a packed pattern code (see {@link FeedbackPattern}); the
+ * {@link LetterFeedback} list is only built the first time a caller asks for it.
+ */
+public final class GuessResult {
 
-    public GuessResult {
-        feedback = feedback == null ? List.of() : List.copyOf(feedback);
+    private final String guess;
+    private final int patternCode;
+    private final int correctLetterCount;
+    private final boolean exactMatch;
+    // Lazily derived from patternCode; volatile because results are read from several threads
+    private volatile List<LetterFeedback> feedback;
+
+    public GuessResult(String guess,
+                       List<LetterFeedback> feedback,
+                       int correctLetterCount,
+                       boolean exactMatch) {
+        this.guess = guess;
+        this.correctLetterCount = correctLetterCount;
+        this.exactMatch = exactMatch;
+        int code = FeedbackPattern.fromFeedback(feedback);
+        this.patternCode = code;
+        if (code == FeedbackPattern.NONE) {
+            this.feedback = feedback == null ? List.of() : List.copyOf(feedback);
+        }
+    }
+
+    private GuessResult(String guess, int patternCode, int correctLetterCount, boolean exactMatch) {
+        this.guess = guess;
+        this.patternCode = patternCode;
+        this.correctLetterCount = correctLetterCount;
+        this.exactMatch = exactMatch;
+        if (patternCode == FeedbackPattern.NONE) {
+            this.feedback = List.of();
+        }
+    }
+
+    /**
+     * Result carrying full per-letter feedback.
+     */
+    public static GuessResult ofPattern(String guess, int patternCode) {
+        int length = guess.length();
+        return new GuessResult(guess, patternCode,
+                FeedbackPattern.correctLetterCount(patternCode, length),
+                FeedbackPattern.isExact(patternCode, length));
+    }
+
+    /**
+     * Result that reveals only the counts, with no per-letter feedback.
+     */
+    public static GuessResult countsOnly(String guess, int correctLetterCount, boolean exactMatch) {
+        return new GuessResult(guess, FeedbackPattern.NONE, correctLetterCount, exactMatch);
+    }
+
+    public String guess() {
+        return guess;
     }
 
-    @Override
     public List<LetterFeedback> feedback() {
-        return List.copyOf(feedback);
+        var list = feedback;
+        if (list == null) {
+            list = FeedbackPattern.toFeedback(patternCode, guess.length());
+            feedback = list;
+        }
+        return list;
+    }
+
+    /**
+     * Packed feedback pattern, or {@link FeedbackPattern#NONE} when no per-letter feedback is revealed.
+     */
+    public int patternCode() {
+        return patternCode;
+    }
+
+    public int correctLetterCount() {
+        return correctLetterCount;
+    }
+
+    public boolean exactMatch() {
+        return exactMatch;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof GuessResult other)) return false;
+        return correctLetterCount == other.correctLetterCount
+                && exactMatch == other.exactMatch
+                && Objects.equals(guess, other.guess)
+                && feedback().equals(other.feedback());
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(guess, feedback(), correctLetterCount, exactMatch);
+    }
+
+    @Override
+    public String toString() {
+        return "GuessResult[guess=" + guess + ", feedback=" + feedback() + ", correctLetterCount="
+                + correctLetterCount + ", exactMatch=" + exactMatch + "]";
     }
 }
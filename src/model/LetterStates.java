@@ -0,0 +1,82 @@
+package model;
+
+import java.util.List;
+import model.enums.LetterFeedback;
+import model.rules.FeedbackPattern;
+
+/**
+ * What one player's guesses have revealed about each letter A-Z, keeping the strongest result:
+ * {@link #UNKNOWN}, then {@link #USED} (guessed, not in the word or no per-letter feedback),
+ * {@link #PRESENT} and {@link #CORRECT}. Each guess updates it in O(word length).
+ */
+public final class LetterStates {
+
+    public static final int LETTERS = 26;
+    public static final byte UNKNOWN = 0;
+    public static final byte USED = 1;
+    public static final byte PRESENT = 2;
+    public static final byte CORRECT = 3;
+
+    private final byte[] states = new byte[LETTERS];
+
+    /**
+     * @param lettersOnly mark every guessed letter as used without reading per-letter feedback
+     */
+    void apply(GuessResult result, boolean lettersOnly) {
+        String guess = result.guess();
+        if (lettersOnly) {
+            for (int i = 0; i < guess.length(); i++) {
+                merge(guess.charAt(i), USED);
+            }
+            return;
+        }
+        int pattern = result.patternCode();
+        if (pattern != FeedbackPattern.NONE) {
+            for (int i = 0; i < guess.length(); i++) {
+                merge(guess.charAt(i), switch (FeedbackPattern.digitAt(pattern, i)) {
+                    case FeedbackPattern.CORRECT -> CORRECT;
+                    case FeedbackPattern.PRESENT -> PRESENT;
+                    default -> USED;
+                });
+            }
+            return;
+        }
+        List<LetterFeedback> feedback = result.feedback();
+        int n = Math.min(guess.length(), feedback.size());
+        for (int i = 0; i < n; i++) {
+            var fb = feedback.get(i);
+            if (fb == null) continue;
+            merge(guess.charAt(i), switch (fb) {
+                case correct -> CORRECT;
+                case present -> PRESENT;
+                default -> USED;
+            });
+        }
+    }
+
+    private void merge(char c, byte state) {
+        int letter = Character.toUpperCase(c) - 'A';
+        if (letter >= 0 && letter < LETTERS && state > states[letter]) {
+            states[letter] = state;
+        }
+    }
+
+    /**
+     * State of a letter, 0 for 'A'.
+     */
+    public byte get(int letter) {
+        return states[letter];
+    }
+
+    /**
+     * Raises each letter of {@code target} to at least this player's state, so one array can
+     * collect several players' keyboards.
+     */
+    public void mergeInto(byte[] target) {
+        for (int i = 0; i < LETTERS; i++) {
+            if (states[i] > target[i]) {
+                target[i] = states[i];
+            }
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package model;
+
+/**
+ * Packs a 3-6 letter word into a single int, five bits per letter.
+ * The first letter occupies the highest bits, so for words of equal length
+ * numeric order matches alphabetical order.
+ */
+public final class PackedWord {
+
+    public static final int BITS_PER_LETTER = 5;
+    public static final int MAX_LENGTH = 6;
+    public static final int INVALID = -1;
+
+    private static final int LETTER_MASK = (1 << BITS_PER_LETTER) - 1;
+
+    private PackedWord() {
+        // Private constructor to prevent instantiation
+    }
+
+    /**
+     * Encodes a word case-insensitively; returns {@link #INVALID} for non-letters or bad lengths.
+     */
+    public static int encode(CharSequence word) {
+        if (word == null) {
+            return INVALID;
+        }
+        int length = word.length();
+        if (length == 0 || length > MAX_LENGTH) {
+            return INVALID;
+        }
+        int packed = 0;
+        for (int i = 0; i < length; i++) {
+            int letter = letterIndex(word.charAt(i));
+            if (letter < 0) {
+                return INVALID;
+            }
+            packed = (packed << BITS_PER_LETTER) | letter;
+        }
+        return packed;
+    }
+
+    public static int encode(char[] chars, int offset, int length) {
+        if (chars == null || length <= 0 || length > MAX_LENGTH) {
+            return INVALID;
+        }
+        int packed = 0;
+        for (int i = offset; i < offset + length; i++) {
+            int letter = letterIndex(chars[i]);
+            if (letter < 0) {
+                return INVALID;
+            }
+            packed = (packed << BITS_PER_LETTER) | letter;
+        }
+        return packed;
+    }
+
+    /**
+     * Decodes a packed word back into its upper-case form.
+     */
+    public static String decode(int packed, int length) {
+        char[] chars = new char[length];
+        for (int i = length - 1; i >= 0; i--) {
+            chars[i] = (char) ('A' + (packed & LETTER_MASK));
+            packed >>>= BITS_PER_LETTER;
+        }
+        return new String(chars);
+    }
+
+    /**
+     * Returns the 0-25 letter index at the given position of a packed word.
+     */
+    public static int letterAt(int packed, int length, int index) {
+        return (packed >>> ((length - 1 - index) * BITS_PER_LETTER)) & LETTER_MASK;
+    }
+
+    /**
+     * Maps a-z/A-Z to 0-25; any other character maps to -1.
+     */
+    public static int letterIndex(char c) {
+        if (c >= 'A' && c <= 'Z') {
+            return c - 'A';
+        }
+        if (c >= 'a' && c <= 'z') {
+            return c - 'a';
+        }
+        return -1;
+    }
+}
@@ -0,0 +1,5 @@
+package model.enums;
+
+public enum HardnessBand {
+    easy, medium, hard
+}
@@ -0,0 +1,75 @@
+package model.rules;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Scores one guess against many packed targets (see {@link model.PackedWord}), writing pattern codes
+ * identical to {@link NormalEvaluator}. Small batches run on the caller's thread; large ones are split
+ * across the common fork-join pool. Each chunk is scored with {@link SwarEvaluator}.
+ */
+public final class BatchEvaluator {
+
+    static final int SEQUENTIAL_THRESHOLD = 4096;
+
+    private BatchEvaluator() {
+        // Private constructor to prevent instantiation
+    }
+
+    public static void evaluate(int packedGuess, int[] packedTargets, int length, short[] patterns) {
+        checkBounds(packedTargets.length, patterns.length);
+        run(new Task(packedGuess, packedTargets, length, patterns, null, 0, packedTargets.length));
+    }
+
+    public static void evaluate(int packedGuess, int[] packedTargets, int length, int[] patterns) {
+        checkBounds(packedTargets.length, patterns.length);
+        run(new Task(packedGuess, packedTargets, length, null, patterns, 0, packedTargets.length));
+    }
+
+    private static void run(Task task) {
+        if (task.to - task.from <= SEQUENTIAL_THRESHOLD) {
+            task.compute();
+        } else {
+            ForkJoinPool.commonPool().invoke(task);
+        }
+    }
+
+    private static void checkBounds(int targets, int patterns) {
+        if (patterns < targets) {
+            throw new IllegalArgumentException("Pattern array holds " + patterns + " entries for " + targets + " targets");
+        }
+    }
+
+    private static final class Task extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final int guess;
+        private final int[] targets;
+        private final int length;
+        private final short[] shortOut;
+        private final int[] intOut;
+        private final int from;
+        private final int to;
+
+        Task(int guess, int[] targets, int length, short[] shortOut, int[] intOut, int from, int to) {
+            this.guess = guess;
+            this.targets = targets;
+            this.length = length;
+            this.shortOut = shortOut;
+            this.intOut = intOut;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from > SEQUENTIAL_THRESHOLD) {
+                int mid = (from + to) >>> 1;
+                invokeAll(new Task(guess, targets, length, shortOut, intOut, from, mid),
+                        new Task(guess, targets, length, shortOut, intOut, mid, to));
+                return;
+            }
+            SwarEvaluator.evaluate(guess, targets, from, to, length, shortOut, intOut, new int[26]);
+        }
+    }
+}
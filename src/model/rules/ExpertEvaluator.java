@@ -1,8 +1,6 @@
 package model.rules;
 
-import java.util.ArrayList;
 import model.GuessResult;
-import model.enums.LetterFeedback;
 
 /**
  * Expert mode returns no per-letter feedback, only counts and exact flag.
@@ -10,7 +8,10 @@ import model.enums.LetterFeedback;
 public class ExpertEvaluator extends NormalEvaluator {
     @Override
     public GuessResult evaluate(String guess, String target) {
-        Evaluation eval = evaluateCore(guess, target);
-        return new GuessResult(guess, new ArrayList<LetterFeedback>(), eval.correctCount(), eval.exactMatch());
+        int pattern = evaluateCore(guess, target);
+        int length = guess.length();
+        return GuessResult.countsOnly(guess,
+                FeedbackPattern.correctLetterCount(pattern, length),
+                FeedbackPattern.isExact(pattern, length));
     }
 }
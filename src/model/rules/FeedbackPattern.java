@@ -0,0 +1,176 @@
+package model.rules;
+
+import java.util.List;
+import model.PackedWord;
+import model.enums.LetterFeedback;
+
+/**
+ * Allocation-free scoring of a guess against a target, encoded as one base-3 int.
+ * Position i contributes digit * 3^i, where the digit is 0 (not present), 1 (present) or 2 (correct).
+ * A six-letter word has 3^6 = 729 possible patterns, so a code always fits in a short.
+ */
+public final class FeedbackPattern {
+
+    public static final int NOT_PRESENT = 0;
+    public static final int PRESENT = 1;
+    public static final int CORRECT = 2;
+    public static final int NONE = -1;
+
+    private static final int[] POWERS_OF_THREE = {1, 3, 9, 27, 81, 243, 729};
+
+    private static final ThreadLocal<int[]> SCRATCH = ThreadLocal.withInitial(() -> new int[26]);
+
+    private FeedbackPattern() {
+        // Private constructor to prevent instantiation
+    }
+
+    /**
+     * Number of distinct patterns for a word length.
+     */
+    public static int patternCount(int length) {
+        return POWERS_OF_THREE[length];
+    }
+
+    /**
+     * Pattern of a guess that matches the target exactly.
+     */
+    public static int exactPattern(int length) {
+        return POWERS_OF_THREE[length] - 1;
+    }
+
+    public static int evaluate(CharSequence guess, CharSequence target) {
+        return evaluate(guess, target, SCRATCH.get());
+    }
+
+    /**
+     * Scores a guess case-insensitively using the caller's 26-slot scratch buffer (left zeroed).
+     * Non-letters only ever score as correct (same character in the same position) or not present.
+     */
+    public static int evaluate(CharSequence guess, CharSequence target, int[] letterCounts) {
+        int length = guess.length();
+        int pattern = 0;
+        // First pass: correct positions; count the target's unmatched letters
+        for (int i = 0; i < length; i++) {
+            char g = guess.charAt(i);
+            char t = target.charAt(i);
+            int gi = PackedWord.letterIndex(g);
+            int ti = PackedWord.letterIndex(t);
+            if (gi >= 0 ? gi == ti : Character.toLowerCase(g) == Character.toLowerCase(t)) {
+                pattern += CORRECT * POWERS_OF_THREE[i];
+            } else if (ti >= 0) {
+                letterCounts[ti]++;
+            }
+        }
+        // Second pass: present letters consume the remaining counts left to right
+        for (int i = 0; i < length; i++) {
+            if (digitAt(pattern, i) == CORRECT) continue;
+            int gi = PackedWord.letterIndex(guess.charAt(i));
+            if (gi >= 0 && letterCounts[gi] > 0) {
+                letterCounts[gi]--;
+                pattern += PRESENT * POWERS_OF_THREE[i];
+            }
+        }
+        clear(target, letterCounts);
+        return pattern;
+    }
+
+    /**
+     * Scores two packed words of the given length (see {@link PackedWord}).
+     */
+    public static int evaluate(int packedGuess, int packedTarget, int length, int[] letterCounts) {
+        int pattern = 0;
+        int shift = PackedWord.BITS_PER_LETTER * (length - 1);
+        for (int i = 0; i < length; i++, shift -= PackedWord.BITS_PER_LETTER) {
+            int g = (packedGuess >>> shift) & 31;
+            int t = (packedTarget >>> shift) & 31;
+            if (g == t) {
+                pattern += CORRECT * POWERS_OF_THREE[i];
+            } else {
+                letterCounts[t]++;
+            }
+        }
+        shift = PackedWord.BITS_PER_LETTER * (length - 1);
+        for (int i = 0; i < length; i++, shift -= PackedWord.BITS_PER_LETTER) {
+            if (digitAt(pattern, i) == CORRECT) continue;
+            int g = (packedGuess >>> shift) & 31;
+            if (letterCounts[g] > 0) {
+                letterCounts[g]--;
+                pattern += PRESENT * POWERS_OF_THREE[i];
+            }
+        }
+        shift = PackedWord.BITS_PER_LETTER * (length - 1);
+        for (int i = 0; i < length; i++, shift -= PackedWord.BITS_PER_LETTER) {
+            letterCounts[(packedTarget >>> shift) & 31] = 0;
+        }
+        return pattern;
+    }
+
+    public static int digitAt(int pattern, int index) {
+        return (pattern / POWERS_OF_THREE[index]) % 3;
+    }
+
+    /**
+     * Letters that are correct or present (the expert-mode "correct letters" count).
+     */
+    public static int correctLetterCount(int pattern, int length) {
+        int count = 0;
+        for (int i = 0; i < length; i++) {
+            if (pattern % 3 != NOT_PRESENT) count++;
+            pattern /= 3;
+        }
+        return count;
+    }
+
+    public static boolean isExact(int pattern, int length) {
+        return pattern == exactPattern(length);
+    }
+
+    public static LetterFeedback feedbackAt(int pattern, int index) {
+        return switch (digitAt(pattern, index)) {
+            case CORRECT -> LetterFeedback.correct;
+            case PRESENT -> LetterFeedback.present;
+            default -> LetterFeedback.notPresent;
+        };
+    }
+
+    /**
+     * Per-letter feedback as an immutable list, safe to share between threads without locking.
+     */
+    public static List<LetterFeedback> toFeedback(int pattern, int length) {
+        var feedback = new LetterFeedback[length];
+        for (int i = 0; i < length; i++) {
+            feedback[i] = feedbackAt(pattern, i);
+        }
+        return List.of(feedback);
+    }
+
+    /**
+     * Encodes a per-letter feedback list, or returns {@link #NONE} if it holds anything else.
+     */
+    public static int fromFeedback(List<LetterFeedback> feedback) {
+        if (feedback == null || feedback.isEmpty() || feedback.size() >= POWERS_OF_THREE.length) {
+            return NONE;
+        }
+        int pattern = 0;
+        for (int i = 0; i < feedback.size(); i++) {
+            LetterFeedback fb = feedback.get(i);
+            if (fb == null) return NONE;
+            int digit = switch (fb) {
+                case correct -> CORRECT;
+                case present -> PRESENT;
+                case notPresent -> NOT_PRESENT;
+                default -> -1;
+            };
+            if (digit < 0) return NONE;
+            pattern += digit * POWERS_OF_THREE[i];
+        }
+        return pattern;
+    }
+
+    private static void clear(CharSequence target, int[] letterCounts) {
+        for (int i = 0; i < target.length(); i++) {
+            int ti = PackedWord.letterIndex(target.charAt(i));
+            if (ti >= 0) letterCounts[ti] = 0;
+        }
+    }
+}
@@ -8,7 +8,6 @@ import model.GuessResult;
 public class HardEvaluator extends NormalEvaluator {
     @Override
     public GuessResult evaluate(String guess, String target) {
-        Evaluation eval = evaluateCore(guess, target);
-        return new GuessResult(guess, eval.feedback(), eval.correctCount(), eval.exactMatch());
+        return GuessResult.ofPattern(guess, evaluateCore(guess, target));
     }
 }
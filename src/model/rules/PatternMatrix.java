@@ -0,0 +1,189 @@
+package model.rules;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.stream.IntStream;
+
+/**
+ * Precomputed feedback pattern for every (guess, answer) pair of one word length.
+ * Cells are one byte for words of up to five letters (at most 243 patterns) and two bytes for six.
+ * Rows are the sorted packed guess list, columns the sorted packed answer list.
+ *
+ * File layout (big-endian): magic, version, length, guessCount, answerCount, cellBytes,
+ * then the guess words, the answer words and the cells row by row.
+ */
+public final class PatternMatrix {
+
+    static final int MAGIC = 0x4C47504D; // "LGPM"
+    static final int VERSION = 1;
+    private static final int HEADER_BYTES = 6 * 4;
+
+    private final int length;
+    private final int[] guesses;
+    private final int[] answers;
+    private final int cellBytes;
+    private final ByteBuffer cells;
+
+    private PatternMatrix(int length, int[] guesses, int[] answers, ByteBuffer cells) {
+        this.length = length;
+        this.guesses = guesses;
+        this.answers = answers;
+        this.cellBytes = cellBytesFor(length);
+        this.cells = cells;
+    }
+
+    /**
+     * Computes all cells, one guess row per fork-join task.
+     *
+     * @param guesses sorted packed guess words
+     * @param answers sorted packed answer words
+     */
+    public static PatternMatrix build(int[] guesses, int[] answers, int length) {
+        long cellCount = (long) guesses.length * answers.length;
+        int cellBytes = cellBytesFor(length);
+        if (cellCount * cellBytes > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Pattern matrix of " + cellCount + " cells is too large");
+        }
+        ByteBuffer cells = ByteBuffer.allocate((int) (cellCount * cellBytes));
+        IntStream.range(0, guesses.length).parallel().forEach(g -> {
+            int[] scratch = new int[26];
+            int rowStart = g * answers.length;
+            for (int a = 0; a < answers.length; a++) {
+                int pattern = FeedbackPattern.evaluate(guesses[g], answers[a], length, scratch);
+                if (cellBytes == 1) {
+                    cells.put(rowStart + a, (byte) pattern);
+                } else {
+                    cells.putShort((rowStart + a) * 2, (short) pattern);
+                }
+            }
+        });
+        return new PatternMatrix(length, guesses.clone(), answers.clone(), cells);
+    }
+
+    /**
+     * Maps a previously saved matrix if it was built from exactly these word lists,
+     * otherwise builds a fresh one and saves it for the next run.
+     */
+    public static PatternMatrix loadOrBuild(Path file, int[] guesses, int[] answers, int length) throws IOException {
+        if (Files.exists(file)) {
+            try {
+                PatternMatrix mapped = load(file);
+                if (mapped.length == length && Arrays.equals(mapped.guesses, guesses) && Arrays.equals(mapped.answers, answers)) {
+                    return mapped;
+                }
+            } catch (IOException e) {
+                System.err.println("Rebuilding unreadable pattern matrix " + file + ": " + e.getMessage());
+            }
+        }
+        PatternMatrix built = build(guesses, answers, length);
+        built.save(file);
+        return built;
+    }
+
+    public static PatternMatrix load(Path file) throws IOException {
+        MappedByteBuffer mapped;
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+        if (mapped.limit() < HEADER_BYTES || mapped.getInt(0) != MAGIC) {
+            throw new IOException("Not a pattern matrix: " + file);
+        }
+        if (mapped.getInt(4) != VERSION) {
+            throw new IOException("Unsupported pattern matrix version " + mapped.getInt(4));
+        }
+        int length = mapped.getInt(8);
+        int guessCount = mapped.getInt(12);
+        int answerCount = mapped.getInt(16);
+        int cellBytes = mapped.getInt(20);
+        long expected = HEADER_BYTES + 4L * (guessCount + answerCount) + (long) guessCount * answerCount * cellBytes;
+        if (cellBytes != cellBytesFor(length) || mapped.limit() != expected) {
+            throw new IOException("Corrupt pattern matrix: " + file);
+        }
+        int[] guesses = new int[guessCount];
+        int[] answers = new int[answerCount];
+        mapped.slice(HEADER_BYTES, 4 * guessCount).asIntBuffer().get(guesses);
+        mapped.slice(HEADER_BYTES + 4 * guessCount, 4 * answerCount).asIntBuffer().get(answers);
+        int cellsStart = HEADER_BYTES + 4 * (guessCount + answerCount);
+        return new PatternMatrix(length, guesses, answers, mapped.slice(cellsStart, mapped.limit() - cellsStart));
+    }
+
+    /**
+     * Writes to a temp file and moves it into place so concurrent readers never see a partial file.
+     */
+    public void save(Path file) throws IOException {
+        ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES + 4 * (guesses.length + answers.length));
+        header.putInt(MAGIC).putInt(VERSION).putInt(length)
+                .putInt(guesses.length).putInt(answers.length).putInt(cellBytes);
+        for (int guess : guesses) header.putInt(guess);
+        for (int answer : answers) header.putInt(answer);
+        header.flip();
+
+        Path parent = file.toAbsolutePath().getParent();
+        Files.createDirectories(parent);
+        Path temp = Files.createTempFile(parent, file.getFileName().toString(), ".tmp");
+        try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.WRITE)) {
+            while (header.hasRemaining()) {
+                channel.write(header);
+            }
+            ByteBuffer body = cells.duplicate();
+            body.clear();
+            while (body.hasRemaining()) {
+                channel.write(body);
+            }
+        }
+        Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    private static int cellBytesFor(int length) {
+        return FeedbackPattern.patternCount(length) <= 256 ? 1 : 2;
+    }
+
+    public int length() {
+        return length;
+    }
+
+    public int guessCount() {
+        return guesses.length;
+    }
+
+    public int answerCount() {
+        return answers.length;
+    }
+
+    public int guessWord(int guessIndex) {
+        return guesses[guessIndex];
+    }
+
+    public int answerWord(int answerIndex) {
+        return answers[answerIndex];
+    }
+
+    /**
+     * Row of a packed guess word, or a negative value if it is not in the matrix.
+     */
+    public int guessIndexOf(int packedGuess) {
+        return Arrays.binarySearch(guesses, packedGuess);
+    }
+
+    /**
+     * Column of a packed answer word, or a negative value if it is not in the matrix.
+     */
+    public int answerIndexOf(int packedAnswer) {
+        return Arrays.binarySearch(answers, packedAnswer);
+    }
+
+    /**
+     * Pattern code for a guess row and answer column.
+     */
+    public int pattern(int guessIndex, int answerIndex) {
+        int cell = guessIndex * answers.length + answerIndex;
+        return cellBytes == 1 ? cells.get(cell) & 0xFF : cells.getShort(cell * 2) & 0xFFFF;
+    }
+}
@@ -0,0 +1,79 @@
+package model.rules;
+
+import model.PackedWord;
+
+/**
+ * Bulk scoring with SIMD-within-a-register: each 5-bit lane of a packed word is one letter position,
+ * so all "correct" positions of a guess/target pair are found with a handful of integer operations.
+ *
+ * For guesses without repeated letters, a letter that is not correct is "present" exactly when the
+ * target contains it anywhere (its only other occurrences cannot be claimed by another guess lane),
+ * so the pattern needs just the target's 26-bit letter mask. Guesses with repeated letters fall back
+ * to the scalar {@link FeedbackPattern} loop. Results are identical to {@link NormalEvaluator}.
+ */
+public final class SwarEvaluator {
+
+    private static final int[] POWERS_OF_THREE = {1, 3, 9, 27, 81, 243};
+    private static final int LOW_BITS = 0b01111_01111_01111_01111_01111_01111;
+
+    private SwarEvaluator() {
+        // Private constructor to prevent instantiation
+    }
+
+    /**
+     * Scores targets[from, to) into patterns[from, to) using the caller's 26-slot scratch buffer.
+     */
+    public static void evaluate(int packedGuess, int[] targets, int from, int to, int length,
+                                short[] shortOut, int[] intOut, int[] scratch) {
+        if (hasRepeatedLetter(packedGuess, length)) {
+            for (int i = from; i < to; i++) {
+                store(shortOut, intOut, i, FeedbackPattern.evaluate(packedGuess, targets[i], length, scratch));
+            }
+            return;
+        }
+        int laneMask = (1 << (PackedWord.BITS_PER_LETTER * length)) - 1;
+        for (int i = from; i < to; i++) {
+            int target = targets[i];
+            int correctLanes = zeroLanes(packedGuess ^ target) & laneMask;
+            int letters = letterMask(target, length);
+            int pattern = 0;
+            int shift = PackedWord.BITS_PER_LETTER * (length - 1);
+            for (int p = 0; p < length; p++, shift -= PackedWord.BITS_PER_LETTER) {
+                if ((correctLanes & (0b10000 << shift)) != 0) {
+                    pattern += FeedbackPattern.CORRECT * POWERS_OF_THREE[p];
+                } else if ((letters & (1 << ((packedGuess >>> shift) & 31))) != 0) {
+                    pattern += FeedbackPattern.PRESENT * POWERS_OF_THREE[p];
+                }
+            }
+            store(shortOut, intOut, i, pattern);
+        }
+    }
+
+    /**
+     * Sets the top bit of every 5-bit lane that is zero. (x & low) + low never carries across lanes.
+     */
+    static int zeroLanes(int x) {
+        return ~(((x & LOW_BITS) + LOW_BITS) | x | LOW_BITS);
+    }
+
+    static int letterMask(int packedWord, int length) {
+        int mask = 0;
+        for (int p = 0; p < length; p++) {
+            mask |= 1 << (packedWord & 31);
+            packedWord >>>= PackedWord.BITS_PER_LETTER;
+        }
+        return mask;
+    }
+
+    static boolean hasRepeatedLetter(int packedWord, int length) {
+        return Integer.bitCount(letterMask(packedWord, length)) != length;
+    }
+
+    private static void store(short[] shortOut, int[] intOut, int index, int pattern) {
+        if (shortOut != null) {
+            shortOut[index] = (short) pattern;
+        } else {
+            intOut[index] = pattern;
+        }
+    }
+}
@@ -4,6 +4,7 @@ import java.io.*;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Properties;
@@ -26,7 +27,11 @@ public class PersistenceService {
     public PersistenceService() {
         // Define a data directory within the user's home or application specific folder
         // For simplicity, using current directory for now, but should be more robust
-        this.dataDirectory = Paths.get(System.getProperty("user.dir"), "data");
+        this(Paths.get(System.getProperty("user.dir"), "data"));
+    }
+
+    public PersistenceService(Path dataDirectory) {
+        this.dataDirectory = dataDirectory;
         if (!Files.exists(dataDirectory)) {
             try {
                 Files.createDirectories(dataDirectory);
@@ -36,6 +41,13 @@ public class PersistenceService {
         }
     }
 
+    /**
+     * Directory holding the saved files, for other caches that belong next to them.
+     */
+    public Path getDataDirectory() {
+        return dataDirectory;
+    }
+
     // --- Player Profile Persistence ---
     public void savePlayerProfile(PlayerProfile profile) {
         Properties properties = new Properties();
@@ -112,22 +124,59 @@ public class PersistenceService {
     // Note: HardWordEntry is currently an inner record of HardestWordsPanel.
     // For proper persistence, it should ideally be a top-level record or in model.Records.
     public void saveHardestWords(List<HardWordEntry> hardWords) {
-        try (BufferedWriter writer = Files.newBufferedWriter(dataDirectory.resolve(hardeestWordFile))) {
-            for (HardWordEntry entry : hardWords) {
-                writer.write(String.join(",",
-                        String.valueOf(entry.rank()),
-                        entry.word(),
-                        String.valueOf(entry.hardnessScore())
-                ));
-                writer.newLine();
+        writeHardestWords(dataDirectory.resolve(hardeestWordFile), hardWords);
+    }
+
+    /**
+     * Saves the ranking for one word length and difficulty next to the default list.
+     */
+    public void saveHardestWords(List<HardWordEntry> hardWords, WordLength wordLength, Difficulty difficulty) {
+        writeHardestWords(dataDirectory.resolve(hardestWordFileFor(wordLength, difficulty)), hardWords);
+    }
+
+    public List<HardWordEntry> loadHardestWords(WordLength wordLength, Difficulty difficulty) {
+        return readHardestWords(dataDirectory.resolve(hardestWordFileFor(wordLength, difficulty)));
+    }
+
+    private static String hardestWordFileFor(WordLength wordLength, Difficulty difficulty) {
+        return "hardest_words-" + wordLength.name() + "-" + difficulty.name() + ".txt";
+    }
+
+    /**
+     * Writes to a temp file and moves it into place, so a reader never sees a half-written ranking.
+     */
+    private void writeHardestWords(Path target, List<HardWordEntry> hardWords) {
+        Path temp = null;
+        try {
+            temp = Files.createTempFile(dataDirectory, target.getFileName().toString(), ".tmp");
+            try (BufferedWriter writer = Files.newBufferedWriter(temp)) {
+                for (HardWordEntry entry : hardWords) {
+                    writer.write(String.join(",",
+                            String.valueOf(entry.rank()),
+                            entry.word(),
+                            String.valueOf(entry.hardnessScore())
+                    ));
+                    writer.newLine();
+                }
             }
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
         } catch (IOException e) {
             System.err.println("Error saving hardest words: " + e.getMessage());
+            if (temp != null) {
+                try {
+                    Files.deleteIfExists(temp);
+                } catch (IOException ignored) {
+                    // Best effort cleanup
+                }
+            }
         }
     }
 
     public List<HardWordEntry> loadHardestWords() {
-        Path hardWordsPath = dataDirectory.resolve(hardeestWordFile);
+        return readHardestWords(dataDirectory.resolve(hardeestWordFile));
+    }
+
+    private List<HardWordEntry> readHardestWords(Path hardWordsPath) {
         if (Files.exists(hardWordsPath)) {
             try (BufferedReader reader = Files.newBufferedReader(hardWordsPath)) {
                 return reader.lines()
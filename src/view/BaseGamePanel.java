@@ -11,6 +11,8 @@ import javax.swing.JButton;
 import javax.swing.JLabel;
 import javax.swing.JPanel;
 import javax.swing.JTextField;
+import javax.swing.event.DocumentEvent;
+import javax.swing.event.DocumentListener;
 
 abstract class BaseGamePanel extends JPanel implements GameEventListener {
 
@@ -21,6 +23,7 @@ abstract class BaseGamePanel extends JPanel implements GameEventListener {
     protected final KeyboardPanel keyboardPanel;
     protected final JLabel statusLabel;
     protected final JButton submitButton;
+    protected final JButton hintButton;
     protected GameUiModel lastModel;
 
     BaseGamePanel(Navigation navigation, AppController appController) {
@@ -33,6 +36,11 @@ abstract class BaseGamePanel extends JPanel implements GameEventListener {
         setLayout(new BorderLayout(8, 8));
 
         guessField = new JTextField(10);
+        guessField.getDocument().addDocumentListener(new DocumentListener() {
+            @Override public void insertUpdate(DocumentEvent e) { updatePrefixHint(); }
+            @Override public void removeUpdate(DocumentEvent e) { updatePrefixHint(); }
+            @Override public void changedUpdate(DocumentEvent e) { }
+        });
         keyboardPanel = new KeyboardPanel(c -> {
             guessField.setText(guessField.getText() + c);
         });
@@ -46,9 +54,28 @@ abstract class BaseGamePanel extends JPanel implements GameEventListener {
 
         submitButton = new JButton("Submit Guess");
         submitButton.addActionListener(e -> handleGuess());
+
+        hintButton = new JButton("Hint");
+        hintButton.addActionListener(e -> handleHint());
+    }
+
+    protected void handleHint() {
+        var hint = appController.requestHint();
+        setStatus(hint == null ? "No hint available yet." : "Try " + hint + ".");
+    }
+
+    private void onHintImproved(GameUiModel model) {
+        if (model.hint() != null) {
+            setStatus("Better hint: try " + model.hint() + ".");
+        }
     }
 
     protected void handleGuess() {
+        var typed = guessField.getText();
+        if (typed != null && !typed.isBlank() && !appController.isViablePrefix(typed)) {
+            setStatus("No word starts with '" + typed.trim().toUpperCase() + "'.");
+            return;
+        }
         try {
             appController.submitGuess(guessField.getText());
             guessField.setText("");
@@ -57,6 +84,15 @@ abstract class BaseGamePanel extends JPanel implements GameEventListener {
         }
     }
 
+    /**
+     * Flags a guess that can no longer become a valid word, as it is typed.
+     */
+    private void updatePrefixHint() {
+        var typed = guessField.getText();
+        boolean deadEnd = typed != null && !typed.isBlank() && !appController.isViablePrefix(typed);
+        guessField.setForeground(deadEnd ? Color.RED : Color.BLACK);
+    }
+
     protected void handleBackspace() {
         if (!guessField.isEnabled()) return;
         var text = guessField.getText();
@@ -101,6 +137,7 @@ abstract class BaseGamePanel extends JPanel implements GameEventListener {
             case gameStarted -> onGameStarted(view);
             case gameStateUpdated -> onGameStateUpdated(view);
             case gameFinished -> onGameFinished(view);
+            case hintImproved -> onHintImproved(view);
             default -> { }
         }
     }
@@ -107,15 +107,8 @@ class KeyboardPanel extends JPanel {
     }
 
     void apply(KeyboardView keyboardView, controller.events.DifficultyView difficultyValue) {
-        // reset to unused
         for (char c = 'A'; c <= 'Z'; c++) {
-            letterStates.put(c, LetterFeedbackView.unused);
-        }
-        if (keyboardView != null && keyboardView.keyStates() != null) {
-            for (Map.Entry<Character, LetterFeedbackView> e : keyboardView.keyStates().entrySet()) {
-                var fb = e.getValue() == null ? LetterFeedbackView.unused : e.getValue();
-                letterStates.put(Character.toUpperCase(e.getKey()), fb);
-            }
+            letterStates.put(c, keyboardView == null ? LetterFeedbackView.unused : keyboardView.stateOf(c));
         }
         applyStyles(difficultyValue == null ? DifficultyView.normal : difficultyValue);
     }
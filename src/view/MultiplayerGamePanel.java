@@ -67,6 +67,7 @@ class MultiplayerGamePanel extends BaseGamePanel {
 
         var controls = new JPanel();
         controls.add(submitButton);
+        controls.add(hintButton);
 
         var backspace = new JButton("Backspace");
         backspace.addActionListener(e -> handleBackspace());
@@ -20,6 +20,7 @@ class SoloGamePanel extends BaseGamePanel {
 
     private final GuessGridPanel grid;
     private final JLabel playerTimerLabel;
+    private int computerGuesses;
 
     SoloGamePanel(Navigation navigation, AppController appController) {
         super(navigation, appController);
@@ -37,6 +38,7 @@ class SoloGamePanel extends BaseGamePanel {
 
         var controls = new JPanel();
         controls.add(submitButton);
+        controls.add(hintButton);
 
         var backspace = new JButton("Backspace");
         backspace.addActionListener(e -> handleBackspace());
@@ -53,6 +55,7 @@ class SoloGamePanel extends BaseGamePanel {
     protected void onGameStarted(GameUiModel model) {
         super.onGameStarted(model);
         grid.clearRows();
+        computerGuesses = 0;
         setStatus("New game started. Make your guess!");
         updateTimersFromModel(model);
     }
@@ -84,6 +87,12 @@ class SoloGamePanel extends BaseGamePanel {
 
     @Override
     void addGuessRow(controller.events.GuessView guessView, controller.events.DifficultyView difficulty) {
+        if (!guessView.isPlayerOne()) {
+            // The computer races on its own word; only report its progress
+            computerGuesses++;
+            setStatus(guessView.playerName() + " has made " + computerGuesses + (computerGuesses == 1 ? " guess." : " guesses."));
+            return;
+        }
         grid.addGuessRow(new GuessRowPanel(guessView.result(), difficulty));
     }
 
@@ -0,0 +1,133 @@
+package controller;
+
+import controller.events.GameEventKind;
+import controller.events.GameEventListener;
+import controller.events.GameUiModel;
+import controller.events.PlayerSlot;
+import controller.events.TimerView;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+class AsyncGameEventListenerTestCase {
+
+    @Test
+    void laggingListenerGetsTheLatestSnapshotsInOrder() throws Exception {
+        var recorder = new BlockingRecorder();
+        try (var async = new AsyncGameEventListener(recorder, 8)) {
+            async.onGameStateEvent(GameEventKind.gameStarted, null);
+            assertTrue(recorder.entered.await(2, TimeUnit.SECONDS));
+
+            // The listener is stuck; publishing must not wait for it
+            for (int i = 0; i < 100; i++) {
+                async.onGameStateEvent(GameEventKind.gameStateUpdated, null);
+            }
+            for (int seconds = 10; seconds > 0; seconds--) {
+                async.onTimerEvent(new TimerView(PlayerSlot.playerOne, seconds));
+            }
+            async.onTimerEvent(new TimerView(PlayerSlot.playerTwo, 30));
+            async.onGameStateEvent(GameEventKind.gameFinished, null);
+            async.onGameStateEvent(GameEventKind.gameStateUpdated, null);
+            assertEquals(5, async.lag().queued());
+
+            recorder.release.countDown();
+            assertTrue(recorder.done.await(2, TimeUnit.SECONDS));
+
+            assertEquals(List.of("gameStarted", "gameStateUpdated", "playerOne:1", "playerTwo:30", "gameFinished", "gameStateUpdated"),
+                    recorder.received());
+            var lag = async.lag();
+            assertEquals(6, lag.delivered());
+            assertEquals(99 + 9, lag.coalesced());
+            assertEquals(0, lag.queued());
+            assertTrue(lag.maxLagNanos() >= lag.lastLagNanos());
+        }
+    }
+
+    @Test
+    void aStateUpdateNeverOvertakesAnEarlierHint() throws Exception {
+        var recorder = new BlockingRecorder(5);
+        try (var async = new AsyncGameEventListener(recorder, 8)) {
+            async.onGameStateEvent(GameEventKind.gameStarted, null);
+            assertTrue(recorder.entered.await(2, TimeUnit.SECONDS));
+
+            async.onGameStateEvent(GameEventKind.gameStateUpdated, null);
+            async.onGameStateEvent(GameEventKind.hintImproved, null);
+            async.onGameStateEvent(GameEventKind.gameStateUpdated, null);
+            async.onGameStateEvent(GameEventKind.gameStateUpdated, null);
+            async.onGameStateEvent(GameEventKind.hintImproved, null);
+            async.onGameStateEvent(GameEventKind.hintImproved, null);
+            assertEquals(4, async.lag().queued());
+
+            recorder.release.countDown();
+            assertTrue(recorder.done.await(2, TimeUnit.SECONDS));
+            assertEquals(List.of("gameStarted", "gameStateUpdated", "hintImproved", "gameStateUpdated", "hintImproved"),
+                    recorder.received());
+        }
+    }
+
+    @Test
+    void sessionEventsReachAnAsyncListener() throws Exception {
+        var recorder = new BlockingRecorder();
+        recorder.release.countDown();
+        var timer = new GameSessionServiceTestCase.NoopTimer();
+        var session = GameSessionRegistryTestCase.session(timer);
+        var async = session.addAsyncEventListener(recorder, 4);
+        var p1 = new model.GamePlayer(new model.PlayerProfile("P1", ""), true);
+        var p2 = new model.GamePlayer(new model.PlayerProfile("P2", ""), true);
+        session.startNewGame(model.GameState.GameConfig.withDefaults(model.enums.GameMode.multiplayer, p1, p2),
+                new model.WordChoice("APPLE", model.enums.WordSource.manual),
+                new model.WordChoice("GRAPE", model.enums.WordSource.manual));
+
+        assertTrue(recorder.entered.await(2, TimeUnit.SECONDS));
+        assertEquals("gameStarted", recorder.received().get(0));
+        session.close();
+        assertTrue(async.lag().delivered() >= 1);
+    }
+
+    private static final class BlockingRecorder implements GameEventListener {
+        final CountDownLatch entered = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        final CountDownLatch done;
+        private final List<String> received = new ArrayList<>();
+
+        BlockingRecorder() {
+            this(6);
+        }
+
+        BlockingRecorder(int events) {
+            done = new CountDownLatch(events);
+        }
+
+        @Override
+        public void onGameStateEvent(GameEventKind kind, GameUiModel view) {
+            record(kind.name());
+        }
+
+        @Override
+        public void onTimerEvent(TimerView timer) {
+            record(timer.slot() + ":" + timer.remainingSeconds());
+        }
+
+        private void record(String event) {
+            synchronized (received) {
+                received.add(event);
+            }
+            entered.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            done.countDown();
+        }
+
+        List<String> received() {
+            synchronized (received) {
+                return List.copyOf(received);
+            }
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package controller;
+
+import java.util.List;
+import model.GamePlayer;
+import model.PackedWord;
+import model.PlayerProfile;
+import model.enums.Difficulty;
+import model.enums.WordLength;
+import model.rules.ExpertEvaluator;
+import model.rules.NormalEvaluator;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+class CandidateTrackerTestCase {
+
+    private static final List<String> ANSWERS = List.of(
+            "APPLE", "GRAPE", "LEMON", "MANGO", "PEACH", "MELON", "BERRY", "GUAVA", "OLIVE", "CHARD");
+
+    private final GamePlayer p1 = new GamePlayer(new PlayerProfile("P1", ""), true);
+    private final GamePlayer p2 = new GamePlayer(new PlayerProfile("P2", ""), true);
+
+    @Test
+    void narrowsEachPlayerIndependentlyToMatchingAnswers() {
+        var tracker = tracker(Difficulty.normal);
+        var evaluator = new NormalEvaluator();
+        assertEquals(ANSWERS.size(), tracker.remaining(p1));
+
+        tracker.record(p1, evaluator.evaluate("GRAPE", "LEMON"));
+        tracker.record(p2, evaluator.evaluate("APPLE", "GUAVA"));
+
+        assertEquals(List.of("LEMON", "MELON"), words(tracker, p1), "No G, R, A or P and an E before the last letter");
+        assertEquals(words(tracker, p1).size(), tracker.remaining(p1));
+        assertTrue(words(tracker, p2).contains("GUAVA"));
+        assertFalse(words(tracker, p2).contains("APPLE"));
+
+        tracker.record(p1, evaluator.evaluate("MELON", "LEMON"));
+        assertEquals(List.of("LEMON"), words(tracker, p1));
+    }
+
+    @Test
+    void expertFeedbackOnlyComparesLetterCounts() {
+        var tracker = tracker(Difficulty.expert);
+        // GRAPE vs PEACH: P, E and A are in the target, so three correct letters
+        tracker.record(p1, new ExpertEvaluator().evaluate("GRAPE", "PEACH"));
+
+        var left = words(tracker, p1);
+        assertTrue(left.contains("PEACH"));
+        assertFalse(left.contains("GRAPE"), "An exact match would have been reported");
+        assertFalse(left.contains("LEMON"), "LEMON shares only E with GRAPE");
+    }
+
+    private static CandidateTracker tracker(Difficulty difficulty) {
+        var bank = WordBank.fromWords("fruit", ANSWERS);
+        return new CandidateTracker(CandidateSolver.create(bank, WordLength.five, difficulty, new PatternMatrixCache(null)));
+    }
+
+    private static List<String> words(CandidateTracker tracker, GamePlayer player) {
+        return java.util.Arrays.stream(tracker.candidates(player))
+                .mapToObj(a -> PackedWord.decode(tracker.solver().answerWord(a), 5))
+                .toList();
+    }
+}
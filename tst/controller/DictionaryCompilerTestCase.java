@@ -0,0 +1,60 @@
+package controller;
+
+import java.io.BufferedReader;
+import java.io.StringReader;
+import java.nio.file.Files;
+import model.enums.WordLength;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+class DictionaryCompilerTestCase {
+
+    @Test
+    void compiledFileRoundTripsThroughMapping() throws Exception {
+        var source = new BufferedReader(new StringReader("# words\nCAT\nsun\nAPPLE\nGRAPE\nPLANET\n"));
+        var indexes = WordBank.readWordList(source);
+        var file = Files.createTempFile("words", ".bin");
+        try {
+            DictionaryCompiler.write(indexes, file);
+            var mapped = DictionaryCompiler.map(file);
+
+            assertEquals(indexes.keySet(), mapped.keySet());
+            assertTrue(mapped.get(WordLength.three).contains("SUN"));
+            assertTrue(mapped.get(WordLength.five).contains("grape"));
+            assertFalse(mapped.get(WordLength.five).contains("PLANE"));
+            assertEquals("PLANET", mapped.get(WordLength.six).wordAt(0));
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    @Test
+    void rejectsFilesWithoutMagic() throws Exception {
+        var file = Files.createTempFile("words", ".bin");
+        try {
+            Files.write(file, new byte[] {1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12});
+            assertThrows(java.io.IOException.class, () -> DictionaryCompiler.map(file));
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    @Test
+    void rejectsTruncatedFilesNamingThem() throws Exception {
+        var indexes = WordBank.readWordList(new BufferedReader(new StringReader("APPLE\nGRAPE\nPLANET\n")));
+        var file = Files.createTempFile("words", ".bin");
+        try {
+            DictionaryCompiler.write(indexes, file);
+            byte[] bytes = Files.readAllBytes(file);
+            Files.write(file, java.util.Arrays.copyOf(bytes, bytes.length - 4));
+
+            var e = assertThrows(java.io.IOException.class, () -> DictionaryCompiler.map(file));
+            assertTrue(e.getMessage().contains(file.toString()), e.getMessage());
+
+            Files.write(file, java.util.Arrays.copyOf(bytes, 16));
+            assertThrows(java.io.IOException.class, () -> DictionaryCompiler.map(file), "Section table cut short");
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package controller;
+
+import java.util.BitSet;
+import java.util.List;
+import java.util.Random;
+import model.PackedWord;
+import model.enums.Difficulty;
+import model.enums.WordLength;
+import model.rules.ExpertEvaluator;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+class ExpertSolverTestCase {
+
+    private static final List<String> WORDS = List.of(
+            "APPLE", "GRAPE", "LEMON", "MANGO", "PEACH", "MELON", "BERRY", "GUAVA", "OLIVE", "CHARD",
+            "CHEAP", "PLEAT", "LEAPT", "EERIE", "LLAMA", "SPOOL");
+
+    @Test
+    void sharedLettersMatchTheExpertEvaluator() {
+        var evaluator = new ExpertEvaluator();
+        var random = new Random(7);
+        for (int i = 0; i < 2_000; i++) {
+            String guess = WORDS.get(random.nextInt(WORDS.size()));
+            String target = WORDS.get(random.nextInt(WORDS.size()));
+            int shared = ExpertSolver.sharedLetters(ExpertSolver.signature(PackedWord.encode(guess), 5),
+                    ExpertSolver.signature(PackedWord.encode(target), 5), 5);
+            assertEquals(evaluator.evaluate(guess, target).correctLetterCount(), shared, guess + " vs " + target);
+        }
+    }
+
+    @Test
+    void retainKeepsExactlyTheConsistentAnswers() {
+        var bank = WordBank.fromWords("expert", WORDS);
+        var solver = (ExpertSolver) CandidateSolver.create(bank, WordLength.five, Difficulty.expert, null);
+        var evaluator = new ExpertEvaluator();
+        var candidates = new BitSet();
+        candidates.set(0, solver.answerCount());
+
+        solver.retain(candidates, evaluator.evaluate("LEAPT", "CHEAP"));
+
+        for (int a = 0; a < solver.answerCount(); a++) {
+            String word = PackedWord.decode(solver.answerWord(a), 5);
+            var feedback = evaluator.evaluate("LEAPT", word);
+            boolean consistent = !feedback.exactMatch() && feedback.correctLetterCount() == 3;
+            assertEquals(consistent, candidates.get(a), word);
+        }
+        // Anagrams of the guess share every letter but are still not exact
+        assertTrue(candidates.get(indexOf(solver, "CHEAP")));
+        assertFalse(candidates.get(indexOf(solver, "PLEAT")), "PLEAT shares all five letters with LEAPT");
+    }
+
+    @Test
+    void solvesEveryAnswerWithinABoundedNumberOfGuesses() {
+        var bank = WordBank.fromWords("expert", WORDS);
+        var solver = CandidateSolver.create(bank, WordLength.five, Difficulty.expert, null);
+        var evaluator = new ExpertEvaluator();
+        for (String secret : WORDS) {
+            var candidates = new BitSet();
+            candidates.set(0, solver.answerCount());
+            int guesses = 0;
+            boolean solved = false;
+            while (!solved && guesses < 10) {
+                String guess = solver.bestGuess(candidates.stream().toArray());
+                var result = evaluator.evaluate(guess, secret);
+                solver.retain(candidates, result);
+                solved = result.exactMatch();
+                guesses++;
+            }
+            assertTrue(solved, "Should find " + secret);
+        }
+    }
+
+    private static int indexOf(ExpertSolver solver, String word) {
+        for (int a = 0; a < solver.answerCount(); a++) {
+            if (PackedWord.decode(solver.answerWord(a), 5).equals(word)) return a;
+        }
+        return -1;
+    }
+}
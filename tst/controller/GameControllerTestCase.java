@@ -42,4 +42,21 @@ class GameControllerTestCase {
         assertEquals(GameStatus.inProgress, state.getStatus(), "Wrong guess should keep game in progress");
         assertNull(state.getWinner(), "No winner on wrong guess");
     }
+
+    @Test
+    void validatesAgainstTheWordListNamedInConfig() {
+        var kids = new DictionaryService(WordBank.fromWords("kids", java.util.List.of("HAPPY", "TEDDY")));
+        var gameController = new GameController(new DictionaryService(), java.util.Map.of("kids", kids));
+        var player = new GamePlayer(new PlayerProfile("P1", ""), true);
+        var cpu = new GamePlayer(new PlayerProfile("CPU", ""), false);
+        var config = new GameState.GameConfig(GameMode.solo, Difficulty.normal, WordLength.five, TimerDuration.none, player, cpu, "kids");
+
+        var state = gameController.startNewGame(config, null, new WordChoice(null, WordSource.rollTheDice));
+        var target = state.getPlayerTwoWord().word();
+
+        assertTrue(target.equals("HAPPY") || target.equals("TEDDY"), "Rolled word should come from the selected list");
+        assertThrows(IllegalArgumentException.class, () -> gameController.submitGuess(state, player, "APPLE"),
+                "Words outside the selected list should be rejected");
+        gameController.submitGuess(state, player, "TEDDY");
+    }
 }
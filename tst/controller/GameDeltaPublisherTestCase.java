@@ -0,0 +1,131 @@
+package controller;
+
+import controller.events.GameDelta;
+import controller.events.GameDeltaListener;
+import controller.events.GameStatusView;
+import controller.events.GuessView;
+import controller.events.LetterFeedbackView;
+import controller.events.TimerView;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import model.GamePlayer;
+import model.GameState;
+import model.PlayerProfile;
+import model.WordChoice;
+import model.enums.Difficulty;
+import model.enums.GameMode;
+import model.enums.TimerDuration;
+import model.enums.WordLength;
+import model.enums.WordSource;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+class GameDeltaPublisherTestCase {
+
+    private static final GamePlayer P1 = new GamePlayer(new PlayerProfile("P1", ""), true);
+    private static final GamePlayer P2 = new GamePlayer(new PlayerProfile("P2", ""), true);
+    private static final GameState.GameConfig CONFIG =
+            new GameState.GameConfig(GameMode.multiplayer, Difficulty.normal, WordLength.five, TimerDuration.none, P1, P2);
+
+    @Test
+    void guessesArriveAsDeltasOnTopOfTheStartSnapshot() {
+        var session = GameSessionRegistryTestCase.session(new GameSessionServiceTestCase.NoopTimer());
+        var replica = new Replica();
+        session.addDeltaListener(replica);
+        var state = session.startNewGame(CONFIG, new WordChoice("APPLE", WordSource.manual), new WordChoice("GRAPE", WordSource.manual));
+
+        assertTrue(replica.received.get(0) instanceof GameDelta.Snapshot);
+        session.submitGuess("LEMON");
+        session.submitGuess("PEACH");
+        session.submitGuess("GRAPE");
+
+        var model = new GameUiModelMapper(null, new KeyboardViewBuilder()).toUiModel(state);
+        assertEquals(model.guesses(), replica.guesses);
+        assertEquals(model.keyboard().keyStates(), replica.keys);
+        assertEquals(GameStatusView.awaitingWinnerKnowledge, replica.status);
+        assertEquals("P1", replica.turn);
+        assertTrue(replica.received.stream().noneMatch(d -> d instanceof GameDelta.Snapshot && d != replica.received.get(0)),
+                "Guesses must not trigger snapshots");
+    }
+
+    @Test
+    void lateAndResyncingListenersGetTheCurrentSnapshot() {
+        var session = GameSessionRegistryTestCase.session(new GameSessionServiceTestCase.NoopTimer());
+        session.startNewGame(CONFIG, new WordChoice("APPLE", WordSource.manual), new WordChoice("GRAPE", WordSource.manual));
+        session.submitGuess("LEMON");
+
+        var late = new Replica();
+        session.addDeltaListener(late);
+        var snapshot = (GameDelta.Snapshot) late.received.get(0);
+        assertEquals(1, snapshot.model().guesses().size());
+
+        session.submitGuess("PEACH");
+        assertEquals(snapshot.sequence() + 1, late.received.get(1).sequence(), "Deltas continue from the snapshot");
+
+        session.resync(late);
+        var again = (GameDelta.Snapshot) late.received.get(late.received.size() - 1);
+        assertEquals(2, again.model().guesses().size());
+    }
+
+    @Test
+    void resubscribingAfterUnheardGuessesContinuesFromTheNewSnapshot() {
+        var session = GameSessionRegistryTestCase.session(new GameSessionServiceTestCase.NoopTimer());
+        var first = new Replica();
+        session.addDeltaListener(first);
+        var state = session.startNewGame(CONFIG, new WordChoice("APPLE", WordSource.manual), new WordChoice("GRAPE", WordSource.manual));
+        session.removeDeltaListener(first);
+        session.submitGuess("LEMON");
+        session.submitGuess("PEACH");
+
+        var again = new Replica();
+        session.addDeltaListener(again);
+        assertEquals(2, ((GameDelta.Snapshot) again.received.get(0)).model().guesses().size());
+        session.submitGuess("MELON");
+
+        var model = new GameUiModelMapper(null, new KeyboardViewBuilder()).toUiModel(state);
+        assertEquals(model.guesses(), again.guesses);
+        assertEquals(model.keyboard().keyStates(), again.keys);
+        assertEquals("P2", again.turn);
+    }
+
+    /**
+     * Rebuilds the guesses, keyboard, status and turn purely from deltas and checks the numbering.
+     */
+    private static final class Replica implements GameDeltaListener {
+        final List<GameDelta> received = new ArrayList<>();
+        final List<GuessView> guesses = new ArrayList<>();
+        final Map<Character, LetterFeedbackView> keys = new HashMap<>();
+        GameStatusView status;
+        String turn;
+
+        @Override
+        public void onDelta(GameDelta delta) {
+            if (!received.isEmpty() && !(delta instanceof GameDelta.Snapshot)) {
+                assertEquals(received.get(received.size() - 1).sequence() + 1, delta.sequence(), "No gaps");
+            }
+            received.add(delta);
+            if (delta instanceof GameDelta.Snapshot s) {
+                guesses.clear();
+                guesses.addAll(s.model().guesses());
+                keys.clear();
+                keys.putAll(s.model().keyboard().keyStates());
+                status = s.model().status();
+                turn = s.model().currentPlayer();
+            } else if (delta instanceof GameDelta.GuessAppended g) {
+                assertEquals(guesses.size(), g.index());
+                guesses.add(g.guess());
+            } else if (delta instanceof GameDelta.KeyboardChanged k) {
+                keys.putAll(k.changedKeys());
+            } else if (delta instanceof GameDelta.StatusChanged s) {
+                status = s.status();
+            } else if (delta instanceof GameDelta.TurnChanged t) {
+                turn = t.currentPlayer();
+            }
+        }
+
+        @Override
+        public void onTimerEvent(TimerView timer) { }
+    }
+}
@@ -0,0 +1,72 @@
+package controller;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import model.GamePlayer;
+import model.GameState;
+import model.PlayerProfile;
+import model.WordChoice;
+import model.enums.Difficulty;
+import model.enums.GameMode;
+import model.enums.TimerDuration;
+import model.enums.WordLength;
+import model.enums.WordSource;
+
+/**
+ * Manual load test for {@link GameSessionRegistry}: plays the same number of complete games per
+ * thread at 1, 2, 4, ... threads up to the core count and prints throughput and speedup. With
+ * per-session locking the speedup should track the thread count until the cores run out.
+ *
+ * Usage: java controller.GameSessionLoadTest [gamesPerThread]
+ */
+final class GameSessionLoadTest {
+
+    public static void main(String[] args) throws Exception {
+        int gamesPerThread = args.length > 0 ? Integer.parseInt(args[0]) : 20_000;
+        int cores = Runtime.getRuntime().availableProcessors();
+        var p1 = new GamePlayer(new PlayerProfile("P1", ""), true);
+        var p2 = new GamePlayer(new PlayerProfile("P2", ""), true);
+        var cfg = new GameState.GameConfig(GameMode.multiplayer, Difficulty.normal, WordLength.five, TimerDuration.none, p1, p2);
+
+        run(cfg, 1, gamesPerThread); // warm-up
+        double baseline = 0;
+        for (int threads = 1; threads <= cores; threads = threads < cores && threads * 2 > cores ? cores : threads * 2) {
+            double perSecond = run(cfg, threads, gamesPerThread);
+            if (threads == 1) baseline = perSecond;
+            System.out.printf("%2d threads: %,10.0f games/s  speedup %.2fx%n", threads, perSecond, perSecond / baseline);
+            if (threads == cores) break;
+        }
+    }
+
+    private static double run(GameState.GameConfig cfg, int threads, int gamesPerThread) throws Exception {
+        // Shared like a real host would: matrices are built once, statistics cover every game
+        var matrices = new PatternMatrixCache(null);
+        var stats = new WordStatsAggregator(10);
+        var registry = new GameSessionRegistry(() -> GameSessionRegistryTestCase.session(new GameSessionServiceTestCase.NoopTimer(), matrices, stats));
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        try {
+            long start = System.nanoTime();
+            List<Future<?>> workers = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                workers.add(pool.submit(() -> {
+                    for (int g = 0; g < gamesPerThread; g++) {
+                        String id = registry.startGame(cfg, new WordChoice("APPLE", WordSource.manual), new WordChoice("GRAPE", WordSource.manual));
+                        registry.submitGuess(id, "LEMON");
+                        registry.submitGuess(id, "MELON");
+                        registry.submitGuess(id, "GRAPE");
+                        registry.applyWinnerKnowledge(id, true);
+                        registry.submitGuess(id, "PEACH");
+                        registry.endGame(id);
+                    }
+                }));
+            }
+            for (var worker : workers) worker.get();
+            return (double) threads * gamesPerThread * 1e9 / (System.nanoTime() - start);
+        } finally {
+            pool.shutdown();
+        }
+    }
+}
@@ -0,0 +1,155 @@
+package controller;
+
+import controller.events.PlayerSlot;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import model.GamePlayer;
+import model.GameState;
+import model.PlayerProfile;
+import model.WordChoice;
+import model.enums.Difficulty;
+import model.enums.GameMode;
+import model.enums.GameStatus;
+import model.enums.TimerDuration;
+import model.enums.WordLength;
+import model.enums.WordSource;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+class GameSessionRegistryTestCase {
+
+    private static final WordBank FRUIT = WordBank.fromWords("fruit", List.of(
+            "APPLE", "GRAPE", "LEMON", "MANGO", "PEACH", "MELON", "BERRY", "GUAVA", "OLIVE", "CHARD"));
+    private static final GamePlayer P1 = new GamePlayer(new PlayerProfile("P1", ""), true);
+    private static final GamePlayer P2 = new GamePlayer(new PlayerProfile("P2", ""), true);
+
+    @Test
+    void routesIntentsToTheirOwnGame() {
+        var registry = new GameSessionRegistry(() -> session(new GameSessionServiceTestCase.NoopTimer()));
+        var cfg = new GameState.GameConfig(GameMode.multiplayer, Difficulty.normal, WordLength.five, TimerDuration.none, P1, P2);
+        String first = registry.startGame(cfg, new WordChoice("APPLE", WordSource.manual), new WordChoice("GRAPE", WordSource.manual));
+        String second = registry.startGame(cfg, new WordChoice("LEMON", WordSource.manual), new WordChoice("MELON", WordSource.manual));
+
+        registry.submitGuess(first, "GRAPE");
+
+        assertEquals(GameStatus.awaitingWinnerKnowledge, registry.gameState(first).getStatus());
+        assertEquals(GameStatus.inProgress, registry.gameState(second).getStatus());
+        assertTrue(registry.gameState(second).getGuesses().isEmpty());
+
+        registry.endGame(first);
+        assertFalse(registry.contains(first));
+        assertThrows(IllegalArgumentException.class, () -> registry.submitGuess(first, "APPLE"));
+        assertEquals(1, registry.size());
+    }
+
+    @Test
+    void timerExpiryOnlyEndsItsOwnGame() {
+        List<ManualTimer> timers = new ArrayList<>();
+        var registry = new GameSessionRegistry(() -> {
+            var timer = new ManualTimer();
+            timers.add(timer);
+            return session(timer);
+        });
+        var cfg = new GameState.GameConfig(GameMode.multiplayer, Difficulty.normal, WordLength.five, TimerDuration.oneMinute, P1, P2);
+        String first = registry.startGame(cfg, new WordChoice("APPLE", WordSource.manual), new WordChoice("GRAPE", WordSource.manual));
+        String second = registry.startGame(cfg, new WordChoice("LEMON", WordSource.manual), new WordChoice("MELON", WordSource.manual));
+
+        timers.get(1).expire(PlayerSlot.playerOne);
+
+        assertEquals(GameStatus.inProgress, registry.gameState(first).getStatus());
+        assertEquals(GameStatus.finished, registry.gameState(second).getStatus());
+        assertEquals(P2, registry.gameState(second).getWinner());
+    }
+
+    @Test
+    void concurrentGamesAllFinishCorrectly() throws Exception {
+        var matrices = new PatternMatrixCache(null);
+        var stats = new WordStatsAggregator(10);
+        var registry = new GameSessionRegistry(() -> session(new GameSessionServiceTestCase.NoopTimer(), matrices, stats));
+        var cfg = new GameState.GameConfig(GameMode.multiplayer, Difficulty.normal, WordLength.five, TimerDuration.none, P1, P2);
+        int games = 400;
+        ExecutorService pool = Executors.newFixedThreadPool(Math.max(2, Runtime.getRuntime().availableProcessors()));
+        try {
+            List<Future<String>> ids = new ArrayList<>();
+            for (int g = 0; g < games; g++) {
+                ids.add(pool.submit(() -> {
+                    String id = registry.startGame(cfg, new WordChoice("APPLE", WordSource.manual), new WordChoice("GRAPE", WordSource.manual));
+                    registry.submitGuess(id, "LEMON");
+                    registry.submitGuess(id, "MELON");
+                    registry.submitGuess(id, "GRAPE");
+                    registry.applyWinnerKnowledge(id, true);
+                    registry.submitGuess(id, "PEACH");
+                    return id;
+                }));
+            }
+            for (var id : ids) {
+                var state = registry.gameState(id.get());
+                assertEquals(GameStatus.finished, state.getStatus());
+                assertEquals(P1, state.getWinner());
+                assertEquals(4, state.getGuesses().size());
+            }
+        } finally {
+            pool.shutdown();
+        }
+        assertEquals(games, registry.size());
+        assertEquals(2 * games, stats.attempts("APPLE") + stats.attempts("GRAPE"), "Every game reaches the shared stats");
+    }
+
+    @Test
+    void concurrentlyEndedGamesLeaveTheRegistryEmpty() throws Exception {
+        var registry = new GameSessionRegistry(() -> session(new GameSessionServiceTestCase.NoopTimer()));
+        var cfg = new GameState.GameConfig(GameMode.multiplayer, Difficulty.normal, WordLength.five, TimerDuration.none, P1, P2);
+        int games = 400;
+        var go = new CountDownLatch(1);
+        ExecutorService pool = Executors.newFixedThreadPool(Math.max(2, Runtime.getRuntime().availableProcessors()));
+        try {
+            List<Future<String>> ids = new ArrayList<>();
+            for (int g = 0; g < games; g++) {
+                ids.add(pool.submit(() -> {
+                    go.await();
+                    String id = registry.startGame(cfg, new WordChoice("APPLE", WordSource.manual), new WordChoice("GRAPE", WordSource.manual));
+                    registry.submitGuess(id, "LEMON");
+                    registry.endGame(id);
+                    return id;
+                }));
+            }
+            go.countDown();
+            for (var id : ids) {
+                assertFalse(registry.contains(id.get()));
+            }
+        } finally {
+            pool.shutdown();
+        }
+        assertEquals(0, registry.size(), "Ended sessions must not stay registered");
+    }
+
+    static GameSessionService session(TurnTimer timer) {
+        return new GameSessionService(new GameController(new DictionaryService(FRUIT)), timer,
+                new GameUiModelMapper(timer, new KeyboardViewBuilder()));
+    }
+
+    /**
+     * A session sharing pattern matrices and word statistics with the other sessions of a registry.
+     */
+    static GameSessionService session(TurnTimer timer, PatternMatrixCache matrices, WordStatsAggregator stats) {
+        return new GameSessionService(new GameController(new DictionaryService(FRUIT)), timer,
+                new GameUiModelMapper(timer, new KeyboardViewBuilder()), matrices, OpeningBook.empty(), stats);
+    }
+
+    private static final class ManualTimer extends GameSessionServiceTestCase.NoopTimer {
+        private final List<Listener> listeners = new ArrayList<>();
+
+        @Override
+        public void addListener(Listener listener) {
+            listeners.add(listener);
+        }
+
+        void expire(PlayerSlot slot) {
+            listeners.forEach(l -> l.onTimeExpired(slot));
+        }
+    }
+}
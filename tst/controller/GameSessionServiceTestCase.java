@@ -176,7 +176,191 @@ class GameSessionServiceTestCase {
         assertTrue(state.getWinnerKnewWord(), "Winner knowledge should be recorded");
     }
 
-    private static class NoopTimer implements TurnTimer {
+    @Test
+    void computerRacesTheHumanInSoloGames() {
+        var human = new model.GamePlayer(new PlayerProfile("P1", ""), true);
+        var cpu = new model.GamePlayer(new PlayerProfile("Computer", ""), false);
+        var cfg = new GameState.GameConfig(GameMode.solo, Difficulty.normal, WordLength.five, TimerDuration.none, human, cpu);
+        var bank = WordBank.fromWords("race", java.util.List.of(
+                "APPLE", "GRAPE", "LEMON", "MANGO", "PEACH", "MELON", "BERRY", "GUAVA", "OLIVE", "CHARD"));
+        var session = inline(new GameController(new DictionaryService(bank)), new NoopTimer());
+        var state = session.startNewGame(cfg, null, new WordChoice("APPLE", WordSource.manual));
+        assertNotNull(state.getPlayerOneWord(), "The computer should get a secret word of its own");
+
+        int rounds = 0;
+        while (state.getStatus() == GameStatus.inProgress && rounds < 10) {
+            session.submitGuess("GRAPE");
+            rounds++;
+        }
+
+        assertEquals(GameStatus.finished, state.getStatus(), "The computer should solve a ten-word bank");
+        assertEquals(cpu, state.getWinner(), "The computer should win the race");
+        assertTrue(state.getWinnerKnewWord(), "The computer skips the winner knowledge check");
+        assertTrue(rounds <= 4, "Entropy guesses should need few rounds, took " + rounds);
+        assertEquals(rounds, state.getGuesses().stream().filter(g -> g.player().equals(cpu)).count());
+    }
+
+    @Test
+    void computerPlaysItsTurnOffTheHumansThread() {
+        var human = new model.GamePlayer(new PlayerProfile("P1", ""), true);
+        var cpu = new model.GamePlayer(new PlayerProfile("Computer", ""), false);
+        var cfg = new GameState.GameConfig(GameMode.solo, Difficulty.normal, WordLength.five, TimerDuration.none, human, cpu);
+        var bank = WordBank.fromWords("race", java.util.List.of("APPLE", "GRAPE", "LEMON", "MANGO", "PEACH"));
+        var tasks = new java.util.ArrayDeque<Runnable>();
+        var timer = new NoopTimer();
+        var session = new GameSessionService(new GameController(new DictionaryService(bank)), timer,
+                new GameUiModelMapper(timer, new KeyboardViewBuilder()), new PatternMatrixCache(null), OpeningBook.empty(),
+                new WordStatsAggregator(10), tasks::add);
+        var state = session.startNewGame(cfg, null, new WordChoice("APPLE", WordSource.manual));
+        tasks.poll().run(); // candidate tracking
+
+        session.submitGuess("GRAPE");
+        assertEquals(1, state.getGuesses().size(), "The human's guess returns before the computer searches");
+        assertEquals(1, tasks.size());
+        tasks.poll().run();
+        assertEquals(cpu, state.getGuesses().get(1).player());
+
+        session.startNewGame(cfg, null, new WordChoice("APPLE", WordSource.manual));
+        tasks.poll().run();
+        session.submitGuess("GRAPE");
+        var stale = tasks.poll();
+        var next = session.startNewGame(cfg, null, new WordChoice("APPLE", WordSource.manual));
+        stale.run();
+        assertTrue(next.getGuesses().isEmpty(), "A turn for the previous game must not land in the new one");
+    }
+
+    @Test
+    void publishesRemainingCandidatesPerPlayer() {
+        var p1 = new model.GamePlayer(new PlayerProfile("P1", ""), true);
+        var p2 = new model.GamePlayer(new PlayerProfile("P2", ""), true);
+        var cfg = new GameState.GameConfig(GameMode.multiplayer, Difficulty.normal, WordLength.five, TimerDuration.none, p1, p2);
+        var bank = WordBank.fromWords("fruit", java.util.List.of("APPLE", "GRAPE", "LEMON", "MELON", "PEACH"));
+        var session = inline(new GameController(new DictionaryService(bank)), new NoopTimer());
+        var latest = new controller.events.GameUiModel[1];
+        session.addEventListener(new controller.events.GameEventListener() {
+            @Override
+            public void onGameStateEvent(controller.events.GameEventKind kind, controller.events.GameUiModel view) {
+                latest[0] = view;
+            }
+            @Override public void onTimerEvent(controller.events.TimerView timer) { }
+        });
+        session.startNewGame(cfg, new WordChoice("APPLE", WordSource.manual), new WordChoice("LEMON", WordSource.manual));
+        assertNull(latest[0].playerOneCandidatesLeft(), "Two humans are not tracked until someone asks for a hint");
+        session.requestHint(50);
+        assertEquals(5, latest[0].playerOneCandidatesLeft());
+
+        session.submitGuess("GRAPE"); // p1 against LEMON leaves LEMON and MELON
+
+        assertEquals(2, latest[0].playerOneCandidatesLeft());
+        assertEquals(5, latest[0].playerTwoCandidatesLeft(), "P2 has not guessed yet");
+    }
+
+    @Test
+    void hintsSuggestAWordThatCanStillWin() {
+        var p1 = new model.GamePlayer(new PlayerProfile("P1", ""), true);
+        var p2 = new model.GamePlayer(new PlayerProfile("P2", ""), true);
+        // A timed game whose clock has run down to 0 still gets an immediate best-effort hint
+        var cfg = new GameState.GameConfig(GameMode.multiplayer, Difficulty.normal, WordLength.five, TimerDuration.oneMinute, p1, p2);
+        var bank = WordBank.fromWords("fruit", java.util.List.of("APPLE", "GRAPE", "LEMON", "MELON", "PEACH"));
+        var session = inline(new GameController(new DictionaryService(bank)), new NoopTimer());
+        session.startNewGame(cfg, new WordChoice("APPLE", WordSource.manual), new WordChoice("LEMON", WordSource.manual));
+        assertNotNull(session.requestHint(50));
+
+        session.submitGuess("GRAPE"); // p1 against LEMON leaves LEMON and MELON
+        session.submitGuess("PEACH"); // p2's turn
+        var hint = session.requestHint(50);
+
+        assertTrue("LEMON".equals(hint) || "MELON".equals(hint), "Hint should be a remaining candidate, was " + hint);
+    }
+
+    @Test
+    void firstHintArrivesOnceTrackingIsReady() {
+        var p1 = new model.GamePlayer(new PlayerProfile("P1", ""), true);
+        var p2 = new model.GamePlayer(new PlayerProfile("P2", ""), true);
+        var cfg = new GameState.GameConfig(GameMode.multiplayer, Difficulty.normal, WordLength.five, TimerDuration.none, p1, p2);
+        var bank = WordBank.fromWords("fruit", java.util.List.of("APPLE", "GRAPE", "LEMON", "MELON", "PEACH"));
+        var tasks = new java.util.ArrayDeque<Runnable>();
+        var timer = new NoopTimer();
+        var session = new GameSessionService(new GameController(new DictionaryService(bank)), timer,
+                new GameUiModelMapper(timer, new KeyboardViewBuilder()), new PatternMatrixCache(null), OpeningBook.empty(),
+                new WordStatsAggregator(10), tasks::add);
+        var hints = new java.util.ArrayList<String>();
+        session.addEventListener(new controller.events.GameEventListener() {
+            @Override
+            public void onGameStateEvent(controller.events.GameEventKind kind, controller.events.GameUiModel view) {
+                if (kind == controller.events.GameEventKind.hintImproved) {
+                    hints.add(view.hint());
+                }
+            }
+            @Override public void onTimerEvent(controller.events.TimerView timer) { }
+        });
+        session.startNewGame(cfg, new WordChoice("APPLE", WordSource.manual), new WordChoice("LEMON", WordSource.manual));
+        assertTrue(tasks.isEmpty(), "Two humans need no tracking at the start");
+
+        assertNull(session.requestHint(50), "The matrix is not built on the caller's thread");
+        session.submitGuess("GRAPE"); // p1 against LEMON leaves LEMON and MELON
+        session.submitGuess("PEACH");
+        assertEquals(1, tasks.size());
+        tasks.poll().run();
+
+        assertEquals(1, hints.size());
+        assertTrue("LEMON".equals(hints.get(0)) || "MELON".equals(hints.get(0)), "Caught up on earlier guesses, was " + hints.get(0));
+    }
+
+    @Test
+    void gameGoesOnWhenTrackingCannotBeBuilt() throws Exception {
+        var p1 = new model.GamePlayer(new PlayerProfile("P1", ""), true);
+        var p2 = new model.GamePlayer(new PlayerProfile("P2", ""), true);
+        var cfg = new GameState.GameConfig(GameMode.multiplayer, Difficulty.normal, WordLength.five, TimerDuration.none, p1, p2);
+        var bank = WordBank.fromWords("fruit", java.util.List.of("APPLE", "GRAPE", "LEMON", "MELON", "PEACH"));
+        // A cache "directory" that is a plain file cannot hold matrices
+        var notADirectory = java.nio.file.Files.createTempFile("patterns", ".bin");
+        try {
+            var timer = new NoopTimer();
+            var session = new GameSessionService(new GameController(new DictionaryService(bank)), timer,
+                    new GameUiModelMapper(timer, new KeyboardViewBuilder()), new PatternMatrixCache(notADirectory),
+                    OpeningBook.empty(), new WordStatsAggregator(10), Runnable::run);
+            var state = session.startNewGame(cfg, new WordChoice("APPLE", WordSource.manual), new WordChoice("LEMON", WordSource.manual));
+
+            assertNull(session.requestHint(50));
+            session.submitGuess("GRAPE");
+            assertEquals(1, state.getGuesses().size());
+            assertEquals(GameStatus.inProgress, state.getStatus());
+        } finally {
+            java.nio.file.Files.deleteIfExists(notADirectory);
+        }
+    }
+
+    @Test
+    void staleExpiryDoesNotEndARestartedClock() {
+        var timer = new NoopTimer() {
+            @Override
+            public int getRemainingFor(PlayerSlot slot) {
+                return 60;
+            }
+        };
+        var p1 = new model.GamePlayer(new PlayerProfile("P1", ""), true);
+        var p2 = new model.GamePlayer(new PlayerProfile("P2", ""), true);
+        var cfg = new GameState.GameConfig(GameMode.multiplayer, Difficulty.normal, WordLength.five, TimerDuration.oneMinute, p1, p2);
+        var session = new GameSessionService(new GameController(new DictionaryService()), timer, new GameUiModelMapper(timer, new KeyboardViewBuilder()));
+        var state = session.startNewGame(cfg, new WordChoice("APPLE", WordSource.manual), new WordChoice("GRAPE", WordSource.manual));
+
+        // Delivered late, for the previous game's clock and for the player not on turn
+        session.onTimeExpired(PlayerSlot.playerOne);
+        session.onTimeExpired(PlayerSlot.playerTwo);
+
+        assertEquals(GameStatus.inProgress, state.getStatus(), "A clock with time left must not time out");
+    }
+
+    /**
+     * A session that does its background work (candidate tracking, computer turns) inline.
+     */
+    static GameSessionService inline(GameController controller, TurnTimer timer) {
+        return new GameSessionService(controller, timer, new GameUiModelMapper(timer, new KeyboardViewBuilder()),
+                new PatternMatrixCache(null), OpeningBook.empty(), new WordStatsAggregator(10), Runnable::run);
+    }
+
+    static class NoopTimer implements TurnTimer {
         @Override public void addListener(Listener listener) { }
         @Override public void removeListener(Listener listener) { }
         @Override public void setTimeForPlayer(PlayerSlot slot, int seconds) { }
@@ -1,6 +1,7 @@
 package controller;
 
 import controller.events.GameUiModel;
+import controller.events.LetterFeedbackView;
 import controller.events.PlayerSlot;
 import java.util.Map;
 import org.junit.jupiter.api.Test;
@@ -53,6 +54,31 @@ class GameUiModelMapperTestCase {
         assertEquals(60, ui.timerDurationSeconds());
     }
 
+    @Test
+    void soloKeyboardShowsOnlyThePlayersOwnGuesses() {
+        var p1 = new model.GamePlayer(new model.PlayerProfile("P1", ""), true);
+        var computer = new model.GamePlayer(new model.PlayerProfile("CPU", ""), false);
+        var config = new model.GameState.GameConfig(model.enums.GameMode.solo,
+                model.enums.Difficulty.normal,
+                model.enums.WordLength.five,
+                model.enums.TimerDuration.none,
+                p1,
+                computer);
+        var state = new model.GameState(config);
+        state.addGuess(new model.GuessEntry(p1, model.GuessResult.ofPattern("SPELL",
+                model.rules.FeedbackPattern.evaluate("SPELL", "APPLE")), 0));
+        state.addGuess(new model.GuessEntry(computer, model.GuessResult.ofPattern("ZEBRA",
+                model.rules.FeedbackPattern.evaluate("ZEBRA", "APPLE")), 0));
+
+        var keyboard = new GameUiModelMapper(new StubTimer(Map.of()), new KeyboardViewBuilder()).toUiModel(state).keyboard();
+
+        assertEquals(LetterFeedbackView.correct, keyboard.stateOf('p'));
+        assertEquals(LetterFeedbackView.absent, keyboard.stateOf('S'));
+        assertEquals(LetterFeedbackView.unused, keyboard.stateOf('Z'), "The computer's guesses are against another word");
+        assertEquals(4, keyboard.keyStates().size());
+        assertEquals(keyboard, new KeyboardViewBuilder().build(state));
+    }
+
     private static final class StubTimer implements TurnTimer {
         private final Map<PlayerSlot, Integer> remaining;
         StubTimer(Map<PlayerSlot, Integer> remaining) {
@@ -0,0 +1,67 @@
+package controller;
+
+import java.nio.file.Files;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import model.HardWordEntry;
+import model.enums.Difficulty;
+import model.enums.WordLength;
+import org.junit.jupiter.api.Test;
+import util.PersistenceService;
+import static org.junit.jupiter.api.Assertions.*;
+
+class HardestWordsJobTestCase {
+
+    private static final WordBank FRUIT = WordBank.fromWords("fruit", List.of(
+            "APPLE", "GRAPE", "LEMON", "MANGO", "PEACH", "MELON", "BERRY", "GUAVA", "OLIVE", "CHARD",
+            "CHEAP", "PLEAT", "LEAPT", "EERIE", "LLAMA", "SPOOL"));
+
+    @Test
+    void ranksEveryAnswerHardestFirst() {
+        var pool = new ForkJoinPool(2);
+        try {
+            var job = new HardestWordsJob(pool, new PatternMatrixCache(null));
+            for (Difficulty difficulty : Difficulty.values()) {
+                var ranking = job.rank(FRUIT, WordLength.five, difficulty);
+
+                assertEquals(16, ranking.size(), difficulty.name());
+                for (int i = 0; i < ranking.size(); i++) {
+                    assertEquals(i + 1, ranking.get(i).rank());
+                    assertTrue(ranking.get(i).hardnessScore() >= 1.0, "Every word needs at least one guess");
+                    assertTrue(ranking.get(i).hardnessScore() < 10.0, "A small list should be solved quickly");
+                    if (i > 0) {
+                        assertTrue(ranking.get(i).hardnessScore() <= ranking.get(i - 1).hardnessScore(),
+                                "Scores must not increase down the ranking at rank " + (i + 1));
+                    }
+                }
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    void rankingsSurviveTheRoundTripThroughPersistence() throws Exception {
+        var dir = Files.createTempDirectory("hardest");
+        try {
+            var persistence = new PersistenceService(dir);
+            var pool = new ForkJoinPool(2);
+            List<HardWordEntry> ranking;
+            try {
+                ranking = new HardestWordsJob(pool, new PatternMatrixCache(null)).rank(FRUIT, WordLength.five, Difficulty.hard);
+            } finally {
+                pool.shutdown();
+            }
+
+            persistence.saveHardestWords(ranking, WordLength.five, Difficulty.hard);
+
+            assertEquals(ranking, persistence.loadHardestWords(WordLength.five, Difficulty.hard));
+            assertTrue(persistence.loadHardestWords().isEmpty(), "The default list is written separately");
+        } finally {
+            try (var files = Files.list(dir)) {
+                for (var file : files.toList()) Files.delete(file);
+            }
+            Files.delete(dir);
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package controller;
+
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import model.enums.HardnessBand;
+import model.enums.WordLength;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+class HardnessBucketsTestCase {
+
+    private static final WordBank FRUIT = WordBank.fromWords("fruit", List.of(
+            "APPLE", "GRAPE", "LEMON", "MANGO", "PEACH", "MELON", "BERRY", "GUAVA", "OLIVE", "CHARD"));
+    private static final List<String> RANKING = List.of(
+            "GUAVA", "BERRY", "OLIVE", "CHARD", "MANGO", "MELON", "LEMON", "GRAPE", "APPLE");
+
+    @Test
+    void cutsTheRankingIntoThirds() {
+        var buckets = HardnessBuckets.of(FRUIT.index(WordLength.five), RANKING, new Random(3));
+
+        assertEquals(3, buckets.size(HardnessBand.hard));
+        assertEquals(4, buckets.size(HardnessBand.medium), "PEACH is unranked and counts as medium");
+        assertEquals(3, buckets.size(HardnessBand.easy));
+        for (int i = 0; i < 20; i++) {
+            assertTrue(Set.of("GUAVA", "BERRY", "OLIVE").contains(buckets.pick(HardnessBand.hard, new Random(i))));
+        }
+    }
+
+    @Test
+    void bandedPicksFallBackToTheWholeListWithoutARanking() {
+        var dictionary = new DictionaryService(FRUIT);
+        assertTrue(dictionary.isValidWord(dictionary.pickWord(WordLength.five, HardnessBand.hard), WordLength.five));
+
+        dictionary.setHardnessRanking(WordLength.five, RANKING);
+        for (int i = 0; i < 20; i++) {
+            assertTrue(Set.of("APPLE", "GRAPE", "LEMON").contains(dictionary.pickWord(WordLength.five, HardnessBand.easy)));
+        }
+    }
+
+    @Test
+    void bandsFollowABankSwap() {
+        var dictionary = new DictionaryService(FRUIT, true);
+        dictionary.setHardnessRanking(WordLength.five, RANKING);
+        dictionary.replaceWordBank(WordBank.fromWords("small", List.of("GUAVA", "APPLE", "PEACH")));
+
+        for (int i = 0; i < 10; i++) {
+            assertEquals("GUAVA", dictionary.pickWord(WordLength.five, HardnessBand.hard));
+        }
+    }
+
+    @Test
+    void hardGamesRollHardWords() {
+        assertNull(GameController.bandFor(model.enums.Difficulty.normal));
+        assertEquals(HardnessBand.hard, GameController.bandFor(model.enums.Difficulty.hard));
+        assertEquals(HardnessBand.hard, GameController.bandFor(model.enums.Difficulty.expert));
+    }
+}
@@ -0,0 +1,84 @@
+package controller;
+
+import controller.events.PlayerSlot;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+import static org.junit.jupiter.api.Assertions.*;
+
+class HashedWheelTimerTestCase {
+
+    @Test
+    @Timeout(5)
+    void countsDownOncePerSecondAndExpires() throws Exception {
+        try (var wheel = new HashedWheelTimer(1, 20)) {
+            var timer = wheel.newTurnTimer();
+            List<Integer> updates = new ArrayList<>();
+            CountDownLatch expired = new CountDownLatch(1);
+            timer.addListener(new TurnTimer.Listener() {
+                @Override
+                public synchronized void onTimeUpdated(PlayerSlot slot, int remainingSeconds) {
+                    updates.add(remainingSeconds);
+                }
+
+                @Override
+                public void onTimeExpired(PlayerSlot slot) {
+                    if (slot == PlayerSlot.playerTwo) expired.countDown();
+                }
+            });
+
+            timer.setTimeForPlayer(PlayerSlot.playerTwo, 3);
+            timer.start(PlayerSlot.playerTwo);
+
+            assertTrue(expired.await(2, TimeUnit.SECONDS), "Should receive expired callback");
+            assertEquals(List.of(3, 2, 1), updates, "Initial update, then one per second until expiry");
+            assertEquals(0, timer.getRemainingFor(PlayerSlot.playerTwo));
+        }
+    }
+
+    @Test
+    @Timeout(5)
+    void stoppedClockKeepsItsTime() throws Exception {
+        try (var wheel = new HashedWheelTimer(1, 20)) {
+            var timer = wheel.newTurnTimer();
+            AtomicInteger expiries = new AtomicInteger();
+            timer.addListener(new TurnTimer.Listener() {
+                @Override public void onTimeUpdated(PlayerSlot slot, int remainingSeconds) { }
+                @Override public void onTimeExpired(PlayerSlot slot) { expiries.incrementAndGet(); }
+            });
+
+            timer.setTimeForPlayer(PlayerSlot.playerOne, 2);
+            timer.start(PlayerSlot.playerOne);
+            timer.stop();
+            Thread.sleep(100);
+
+            assertEquals(0, expiries.get());
+            assertEquals(2, timer.getRemainingFor(PlayerSlot.playerOne));
+        }
+    }
+
+    @Test
+    @Timeout(10)
+    void tenThousandGamesShareTwoThreads() throws Exception {
+        int games = 10_000;
+        try (var wheel = new HashedWheelTimer(2, 50)) {
+            CountDownLatch expired = new CountDownLatch(games);
+            TurnTimer.Listener listener = new TurnTimer.Listener() {
+                @Override public void onTimeUpdated(PlayerSlot slot, int remainingSeconds) { }
+                @Override public void onTimeExpired(PlayerSlot slot) { expired.countDown(); }
+            };
+            for (int g = 0; g < games; g++) {
+                var timer = wheel.newTurnTimer();
+                timer.addListener(listener);
+                timer.setTimeForPlayer(PlayerSlot.playerOne, 3);
+                timer.start(PlayerSlot.playerOne);
+            }
+
+            assertTrue(expired.await(5, TimeUnit.SECONDS), "All games should expire, " + expired.getCount() + " left");
+        }
+    }
+}
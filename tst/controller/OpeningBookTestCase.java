@@ -0,0 +1,90 @@
+package controller;
+
+import java.nio.file.Files;
+import java.util.List;
+import model.GamePlayer;
+import model.PackedWord;
+import model.PlayerProfile;
+import model.enums.Difficulty;
+import model.enums.WordLength;
+import model.rules.NormalEvaluator;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+class OpeningBookTestCase {
+
+    private static final WordBank FRUIT = WordBank.fromWords("fruit", List.of(
+            "APPLE", "GRAPE", "LEMON", "MANGO", "PEACH", "MELON", "BERRY", "GUAVA", "OLIVE", "CHARD",
+            "FIG", "KIWI", "LIME", "PEAR", "PLUM", "YAM"));
+
+    @Test
+    void savedBookMatchesTheSolverForTheFirstTwoTurns() throws Exception {
+        var matrices = new PatternMatrixCache(null);
+        var file = Files.createTempFile("openings", ".bin");
+        try {
+            OpeningBook.build(FRUIT, matrices).save(file);
+            var book = OpeningBook.load(file);
+            assertEquals(3 * Difficulty.values().length, book.size(), "One line per length and difficulty");
+
+            var matrix = matrices.get(FRUIT, WordLength.five);
+            var solver = new EntropySolver(matrix);
+            var tracker = new CandidateTracker(solver, book.line(solver, Difficulty.normal));
+            var player = new GamePlayer(new PlayerProfile("P1", ""), true);
+
+            String opening = tracker.bookGuess(player);
+            assertEquals(solver.bestGuess(tracker.candidates(player)), opening);
+
+            tracker.record(player, new NormalEvaluator().evaluate(opening, "PEACH"));
+            String reply = tracker.bookGuess(player);
+            assertEquals(solver.bestGuess(tracker.candidates(player)), reply);
+
+            tracker.record(player, new NormalEvaluator().evaluate(reply, "PEACH"));
+            assertNull(tracker.bookGuess(player), "Only the first two turns are in the book");
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    @Test
+    void linesForOtherWordListsAreIgnored() {
+        var matrices = new PatternMatrixCache(null);
+        var book = OpeningBook.build(FRUIT, matrices);
+        var other = WordBank.fromWords("other", List.of("APPLE", "GRAPE", "LEMON"));
+
+        assertNotNull(book.line(CandidateSolver.create(FRUIT, WordLength.four, Difficulty.expert, matrices), Difficulty.expert));
+        assertNull(book.line(CandidateSolver.create(other, WordLength.five, Difficulty.normal, matrices), Difficulty.normal));
+    }
+
+    @Test
+    void corruptLinesAreRejectedAsUnreadable() throws Exception {
+        var file = Files.createTempFile("openings", ".bin");
+        try (var out = new java.io.DataOutputStream(Files.newOutputStream(file))) {
+            out.writeInt(OpeningBook.MAGIC);
+            out.writeInt(OpeningBook.VERSION);
+            out.writeInt(1);
+            out.writeInt(5);
+            out.writeInt(Difficulty.values().length); // no such difficulty
+        }
+        try {
+            assertThrows(java.io.IOException.class, () -> OpeningBook.load(file));
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    @Test
+    void offBookOpeningHasNoReply() {
+        var matrices = new PatternMatrixCache(null);
+        var book = OpeningBook.build(FRUIT, matrices);
+        var solver = CandidateSolver.create(FRUIT, WordLength.five, Difficulty.normal, matrices);
+        var tracker = new CandidateTracker(solver, book.line(solver, Difficulty.normal));
+        var player = new GamePlayer(new PlayerProfile("P1", ""), true);
+        String offBook = PackedWord.decode(solver.guessWord(0), 5).equals(tracker.bookGuess(player))
+                ? PackedWord.decode(solver.guessWord(1), 5)
+                : PackedWord.decode(solver.guessWord(0), 5);
+
+        tracker.record(player, new NormalEvaluator().evaluate(offBook, "LEMON"));
+
+        assertNull(tracker.bookGuess(player));
+    }
+}
@@ -0,0 +1,52 @@
+package controller;
+
+import java.util.List;
+import model.PackedWord;
+import model.enums.WordLength;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+class PackedWordIndexTestCase {
+
+    @Test
+    void packedOrderMatchesAlphabeticalOrder() {
+        assertTrue(PackedWord.encode("APPLE") < PackedWord.encode("BREAD"));
+        assertTrue(PackedWord.encode("PLANE") < PackedWord.encode("PLANT"));
+        assertEquals("GRAPE", PackedWord.decode(PackedWord.encode("grape"), 5));
+    }
+
+    @Test
+    void rejectsNonLettersAndBadLengths() {
+        assertEquals(PackedWord.INVALID, PackedWord.encode("AP-LE"));
+        assertEquals(PackedWord.INVALID, PackedWord.encode("ORANGES"));
+        assertEquals(PackedWord.INVALID, PackedWord.encode(""));
+    }
+
+    @Test
+    void containsIsCaseInsensitiveAndSkipsWrongLengths() {
+        var index = PackedWordIndex.of(WordLength.five, List.of("APPLE", "grape", "APPLE", "CAT", "pl4ne"));
+
+        assertEquals(2, index.size(), "Duplicates, wrong lengths and non-letters are dropped");
+        assertTrue(index.contains("apple"));
+        assertTrue(index.contains(new StringBuilder("GRAPE")));
+        assertFalse(index.contains("PLANE"));
+        assertFalse(index.contains("CAT"));
+        assertEquals("APPLE", index.wordAt(0));
+    }
+
+    @Test
+    void prefixQueriesUseTheSortedRange() {
+        var index = PackedWordIndex.of(WordLength.five, List.of("APPLE", "APPLY", "GRAPE", "PLANE", "PLANT"));
+
+        assertTrue(index.hasPrefix(""));
+        assertTrue(index.hasPrefix("ap"));
+        assertTrue(index.hasPrefix("PLAN"));
+        assertTrue(index.hasPrefix("GRAPE"), "Full-length prefix is a membership test");
+        assertFalse(index.hasPrefix("APX"));
+        assertFalse(index.hasPrefix("Z"));
+        assertFalse(index.hasPrefix("PLANES"));
+        assertEquals(List.of("PLANE", "PLANT"), index.completions("PLA", 10));
+        assertEquals(List.of("APPLE"), index.completions("APP", 1));
+        assertEquals(List.of(), index.completions("Q", 5));
+    }
+}
@@ -0,0 +1,39 @@
+package controller;
+
+import java.nio.file.Files;
+import java.util.List;
+import model.enums.WordLength;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+class PatternMatrixCacheTestCase {
+
+    private static final WordBank FRUIT = WordBank.fromWords("fruit", List.of(
+            "APPLE", "GRAPE", "LEMON", "MANGO", "PEACH", "MELON", "BERRY", "GUAVA", "OLIVE", "CHARD"));
+
+    @Test
+    void matricesAreSavedOnceAndMappedByLaterCaches() throws Exception {
+        var dir = Files.createTempDirectory("patterns");
+        try {
+            var built = new PatternMatrixCache(dir).get(FRUIT, WordLength.five);
+            var file = dir.resolve("patterns-fruit-five.bin");
+            assertTrue(Files.exists(file), "The first build is persisted");
+            long written = Files.getLastModifiedTime(file).toMillis();
+
+            var mapped = new PatternMatrixCache(dir).get(FRUIT, WordLength.five);
+
+            assertEquals(written, Files.getLastModifiedTime(file).toMillis(), "A later launch maps the saved file");
+            assertEquals(built.guessCount(), mapped.guessCount());
+            for (int g = 0; g < built.guessCount(); g++) {
+                for (int a = 0; a < built.answerCount(); a++) {
+                    assertEquals(built.pattern(g, a), mapped.pattern(g, a));
+                }
+            }
+        } finally {
+            try (var files = Files.list(dir)) {
+                for (var file : files.toList()) Files.delete(file);
+            }
+            Files.delete(dir);
+        }
+    }
+}
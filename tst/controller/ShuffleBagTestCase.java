@@ -0,0 +1,21 @@
+package controller;
+
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+class ShuffleBagTestCase {
+
+    @Test
+    void drawsEveryIndexOnceBeforeRepeating() {
+        var bag = new ShuffleBag(50, new Random(7));
+        for (int round = 0; round < 3; round++) {
+            boolean[] seen = new boolean[50];
+            for (int i = 0; i < 50; i++) {
+                int drawn = bag.next();
+                assertFalse(seen[drawn], "Index " + drawn + " repeated within a round");
+                seen[drawn] = true;
+            }
+        }
+    }
+}
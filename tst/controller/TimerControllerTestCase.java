@@ -1,11 +1,13 @@
 package controller;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import controller.events.PlayerSlot;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.Timeout;
 
@@ -53,4 +55,56 @@ public class TimerControllerTestCase {
             executor.shutdownNow();
         }
     }
+
+    @Test
+    @Timeout(5)
+    void withoutDisplayUpdatesOnlyExpiryIsReported() throws Exception {
+        var executor = Executors.newSingleThreadScheduledExecutor();
+        TimerController timer = new TimerController(executor, 20, 0);
+        AtomicInteger updates = new AtomicInteger();
+        CountDownLatch expired = new CountDownLatch(1);
+
+        try {
+            timer.addListener(new TurnTimer.Listener() {
+                @Override
+                public void onTimeUpdated(PlayerSlot slot, int remainingSeconds) {
+                    updates.incrementAndGet();
+                }
+
+                @Override
+                public void onTimeExpired(PlayerSlot slot) {
+                    expired.countDown();
+                }
+            });
+
+            timer.setTimeForPlayer(PlayerSlot.playerOne, 3);
+            timer.start(PlayerSlot.playerOne);
+            assertTrue(timer.getRemainingFor(PlayerSlot.playerOne) > 0, "Remaining time is read from the deadline");
+
+            assertTrue(expired.await(2, TimeUnit.SECONDS), "Should receive expired callback");
+            assertEquals(1, updates.get(), "Only the initial update when display updates are off");
+            assertEquals(0, timer.getRemainingFor(PlayerSlot.playerOne));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void stoppingKeepsTheRemainingTime() throws Exception {
+        var executor = Executors.newSingleThreadScheduledExecutor();
+        TimerController timer = new TimerController(executor, 1000, 0);
+        try {
+            timer.setTimeForPlayer(PlayerSlot.playerTwo, 30);
+            timer.start(PlayerSlot.playerTwo);
+            Thread.sleep(50);
+            timer.stop();
+
+            assertEquals(30, timer.getRemainingFor(PlayerSlot.playerTwo), "Rounded up while part of a second is left");
+            timer.start(PlayerSlot.playerOne);
+            assertEquals(0, timer.getRemainingFor(PlayerSlot.playerOne));
+            assertEquals(30, timer.getRemainingFor(PlayerSlot.playerTwo));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
 }
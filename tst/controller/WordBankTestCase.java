@@ -0,0 +1,55 @@
+package controller;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import model.enums.WordLength;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+class WordBankTestCase {
+
+    @Test
+    void picksOnlyAnswersButAcceptsAllowedGuesses() {
+        var bank = WordBank.fromWords("split", List.of("APPLE", "GRAPE"), List.of("CRANE", "SLATE", "APPLE"));
+        var service = new DictionaryService(bank);
+
+        for (int i = 0; i < 20; i++) {
+            assertTrue(Set.of("APPLE", "GRAPE").contains(service.pickWord(WordLength.five)), "Targets come from answers only");
+        }
+        assertTrue(service.isValidWord("crane", WordLength.five));
+        assertTrue(service.isValidWord("GRAPE", WordLength.five));
+        assertFalse(service.isValidWord("PLANE", WordLength.five));
+        assertTrue(service.hasPrefix("SLA", WordLength.five));
+        assertEquals(List.of("APPLE"), service.completions("AP", WordLength.five, 5), "Words in both lists appear once");
+    }
+
+    @Test
+    void bloomFilterHasNoFalseNegativesAndFewFalsePositives() {
+        var filter = BloomFilter.forCapacity(10_000, 0.01);
+        for (int key = 0; key < 20_000; key += 2) {
+            filter.add(key);
+        }
+        for (int key = 0; key < 20_000; key += 2) {
+            assertTrue(filter.mightContain(key), "Added key " + key + " must be reported");
+        }
+        int falsePositives = 0;
+        for (int key = 1; key < 20_000; key += 2) {
+            if (filter.mightContain(key)) falsePositives++;
+        }
+        assertTrue(falsePositives < 300, "False-positive rate should be near 1%, was " + falsePositives + "/10000");
+    }
+
+    @Test
+    void standardBankLoadsBundledLists() {
+        var bank = WordBank.standard();
+        assertTrue(bank.wordCount(WordLength.five) > 0);
+        assertTrue(bank.isValid("CRANE", WordLength.five), "Bundled allowed-guess list should be loaded");
+        List<String> picks = new ArrayList<>();
+        var service = new DictionaryService(bank, true);
+        for (int i = 0; i < bank.wordCount(WordLength.five); i++) {
+            picks.add(service.pickWord(WordLength.five));
+        }
+        assertFalse(picks.contains("CRANE"), "Allowed-only words are never picked");
+    }
+}
@@ -0,0 +1,87 @@
+package controller;
+
+import java.nio.file.Files;
+import java.util.List;
+import model.GamePlayer;
+import model.GameState;
+import model.PlayerProfile;
+import model.WordChoice;
+import model.enums.Difficulty;
+import model.enums.GameMode;
+import model.enums.TimerDuration;
+import model.enums.WordLength;
+import model.enums.WordSource;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+class WordListReloaderTestCase {
+
+    @Test
+    void reloadSwapsBankButRunningGamesKeepTheirSnapshot() throws Exception {
+        var dir = Files.createTempDirectory("words");
+        var file = dir.resolve("words.txt");
+        Files.write(file, List.of("APPLE", "GRAPE"));
+        var service = new DictionaryService(WordBank.fromPath("test", file));
+        var gameController = new GameController(service);
+        var player = new GamePlayer(new PlayerProfile("P1", ""), true);
+        var cpu = new GamePlayer(new PlayerProfile("CPU", ""), false);
+        var config = new GameState.GameConfig(GameMode.solo, Difficulty.normal, WordLength.five, TimerDuration.none, player, cpu);
+        var state = gameController.startNewGame(config, null, new WordChoice("APPLE", WordSource.manual));
+
+        try (var reloader = new WordListReloader(file, service)) {
+            Files.write(file, List.of("APPLE", "PLANE"));
+            assertTrue(reloader.reloadNow(), "Valid list should be published");
+        }
+
+        assertTrue(service.isValidWord("PLANE", WordLength.five), "Service should answer from the new bank");
+        assertFalse(service.isValidWord("GRAPE", WordLength.five));
+        assertThrows(IllegalArgumentException.class, () -> gameController.submitGuess(state, player, "PLANE"),
+                "Running game should keep validating against the bank it started with");
+        gameController.submitGuess(state, player, "GRAPE");
+    }
+
+    @Test
+    void emptyListKeepsCurrentBank() throws Exception {
+        var file = Files.createTempFile("words", ".txt");
+        Files.write(file, List.of("APPLE"));
+        var service = new DictionaryService(WordBank.fromPath("test", file));
+        var before = service.getWordBank();
+
+        Files.write(file, List.of("# nothing here"));
+
+        assertFalse(new WordListReloader(file, service).reloadNow());
+        assertSame(before, service.getWordBank());
+    }
+
+    @Test
+    void muchSmallerListKeepsCurrentBank() throws Exception {
+        var file = Files.createTempFile("words", ".txt");
+        Files.write(file, List.of("APPLE", "GRAPE", "LEMON", "MANGO", "PEACH"));
+        var service = new DictionaryService(WordBank.fromPath("test", file));
+        var before = service.getWordBank();
+
+        Files.write(file, List.of("APPLE", "GRAPE"));
+
+        assertFalse(new WordListReloader(file, service).reloadNow(), "A truncated write should not be published");
+        assertSame(before, service.getWordBank());
+    }
+
+    @Test
+    void watcherReloadsOnceTheFileSettles() throws Exception {
+        var dir = Files.createTempDirectory("words");
+        var file = dir.resolve("words.txt");
+        Files.write(file, List.of("APPLE", "GRAPE"));
+        var service = new DictionaryService(WordBank.fromPath("test", file));
+
+        try (var reloader = new WordListReloader(file, service)) {
+            reloader.start();
+            Files.write(file, List.of("APPLE", "PLANE"));
+            long deadline = System.nanoTime() + java.util.concurrent.TimeUnit.SECONDS.toNanos(10);
+            while (!service.isValidWord("PLANE", WordLength.five) && System.nanoTime() < deadline) {
+                Thread.sleep(20);
+            }
+        }
+
+        assertTrue(service.isValidWord("PLANE", WordLength.five), "Watcher should publish the settled list");
+    }
+}
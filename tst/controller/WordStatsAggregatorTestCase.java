@@ -0,0 +1,115 @@
+package controller;
+
+import java.util.List;
+import model.GamePlayer;
+import model.HardWordEntry;
+import model.PlayerProfile;
+import model.WordChoice;
+import model.enums.Difficulty;
+import model.enums.GameMode;
+import model.enums.GameStatus;
+import model.enums.TimerDuration;
+import model.enums.WordLength;
+import model.enums.WordSource;
+import model.GameState;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+class WordStatsAggregatorTestCase {
+
+    @Test
+    void countsAttemptsSolveRateAndMeanGuesses() {
+        var stats = new WordStatsAggregator(3);
+        stats.recordAttempt("LEMON", 2, true);
+        stats.recordAttempt("lemon", 4, true);
+        stats.recordAttempt("LEMON", 3, false);
+
+        assertEquals(3, stats.attempts("LEMON"));
+        assertEquals(2.0 / 3, stats.solveRate("LEMON"), 1e-9);
+        assertEquals((2 + 4 + WordStatsAggregator.UNSOLVED_GUESSES) / 3.0, stats.meanGuesses("LEMON"), 1e-9);
+        assertEquals(0, stats.attempts("MELON"));
+    }
+
+    @Test
+    void keepsTheHardestWordsAsResultsArrive() {
+        var stats = new WordStatsAggregator(2);
+        stats.recordAttempt("APPLE", 2, true);
+        stats.recordAttempt("GRAPE", 5, true);
+        stats.recordAttempt("PEACH", 4, true);
+        assertEquals(List.of("GRAPE", "PEACH"), words(stats.hardest()));
+
+        // A harder result moves APPLE back into the top two
+        stats.recordAttempt("APPLE", 9, false);
+        assertEquals(List.of("APPLE", "GRAPE"), words(stats.hardest()));
+        assertEquals(1, stats.hardest().get(0).rank());
+        assertEquals((2 + 10) / 2.0, stats.hardest().get(0).hardnessScore(), 1e-9);
+    }
+
+    @Test
+    void aTrackedWordThatGetsEasierMakesRoomForAHarderOne() {
+        var stats = new WordStatsAggregator(2);
+        stats.recordAttempt("GRAPE", 8, true);
+        stats.recordAttempt("PEACH", 7, true);
+        stats.recordAttempt("LEMON", 6, true);
+        assertEquals(List.of("GRAPE", "PEACH"), words(stats.hardest()));
+
+        // GRAPE drops to 4.5, below LEMON, which was never tracked
+        stats.recordAttempt("GRAPE", 1, true);
+        assertEquals(List.of("PEACH", "LEMON"), words(stats.hardest()));
+    }
+
+    @Test
+    void wordsOfDifferentLengthsAreKeptApart() {
+        var stats = new WordStatsAggregator(5);
+        // "AAA" and "AAAA" both pack to zero
+        stats.recordAttempt("AAA", 3, true);
+        stats.recordAttempt("AAAA", 6, true);
+
+        assertEquals(1, stats.attempts("AAA"));
+        assertEquals(1, stats.attempts("AAAA"));
+        assertEquals(List.of("AAAA", "AAA"), words(stats.hardest()));
+    }
+
+    @Test
+    void growsPastItsInitialCapacity() {
+        var stats = new WordStatsAggregator(1);
+        for (char a = 'A'; a <= 'Z'; a++) {
+            for (char b = 'A'; b <= 'Z'; b++) {
+                stats.recordAttempt("" + a + b + "X", 1 + (a + b) % 7, true);
+            }
+        }
+        stats.recordAttempt("ZZZZZZ", 12, false);
+
+        assertEquals(1, stats.attempts("QQX"));
+        assertEquals(List.of("ZZZZZZ"), words(stats.hardest()));
+    }
+
+    @Test
+    void sessionRecordsEachFinishedGameOnce() {
+        var p1 = new GamePlayer(new PlayerProfile("P1", ""), true);
+        var p2 = new GamePlayer(new PlayerProfile("P2", ""), true);
+        var cfg = new GameState.GameConfig(GameMode.multiplayer, Difficulty.normal, WordLength.five, TimerDuration.none, p1, p2);
+        var bank = WordBank.fromWords("fruit", List.of("APPLE", "GRAPE", "LEMON", "MELON", "PEACH"));
+        var timer = new GameSessionServiceTestCase.NoopTimer();
+        var session = new GameSessionService(new GameController(new DictionaryService(bank)), timer,
+                new GameUiModelMapper(timer, new KeyboardViewBuilder()));
+        var state = session.startNewGame(cfg, new WordChoice("LEMON", WordSource.manual), new WordChoice("PEACH", WordSource.manual));
+
+        session.submitGuess("GRAPE");
+        session.submitGuess("APPLE");
+        session.submitGuess("PEACH");
+        session.applyWinnerKnowledge(true);
+        session.submitGuess("MELON");
+        assertEquals(GameStatus.finished, state.getStatus());
+        // Republishing the finished game must not count it twice
+        session.applyWinnerKnowledge(true);
+
+        assertEquals(1, session.wordStats().attempts("PEACH"));
+        assertEquals(1.0, session.wordStats().solveRate("PEACH"), 1e-9);
+        assertEquals(1, session.wordStats().attempts("LEMON"));
+    }
+
+    private static List<String> words(List<HardWordEntry> entries) {
+        return entries.stream().map(HardWordEntry::word).toList();
+    }
+}
@@ -0,0 +1,60 @@
+package model;
+
+import model.enums.Difficulty;
+import model.enums.GameMode;
+import model.enums.TimerDuration;
+import model.enums.WordLength;
+import model.rules.FeedbackPattern;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+class LetterStatesTestCase {
+
+    private static final GamePlayer P1 = new GamePlayer(new PlayerProfile("P1", ""), true);
+    private static final GamePlayer P2 = new GamePlayer(new PlayerProfile("P2", ""), true);
+
+    @Test
+    void eachPlayerKeepsTheStrongestStatePerLetter() {
+        var state = new GameState(config(Difficulty.normal));
+        state.addGuess(guess(P1, "LEMON", "APPLE"));
+        state.addGuess(guess(P1, "SPELL", "APPLE"));
+
+        var letters = state.lettersFor(P1);
+        assertEquals(LetterStates.CORRECT, letters.get('P' - 'A'));
+        assertEquals(LetterStates.PRESENT, letters.get('E' - 'A'));
+        assertEquals(LetterStates.CORRECT, letters.get('L' - 'A'), "Present in LEMON, then placed");
+        assertEquals(LetterStates.USED, letters.get('M' - 'A'));
+        assertEquals(LetterStates.UNKNOWN, letters.get('Z' - 'A'));
+        assertEquals(LetterStates.UNKNOWN, state.lettersFor(P2).get('P' - 'A'), "Only the guesser's keyboard changes");
+        assertEquals(2, state.guessCount());
+    }
+
+    @Test
+    void expertOnlyRecordsWhichLettersWereUsed() {
+        var state = new GameState(config(Difficulty.expert));
+        state.addGuess(guess(P2, "APPLE", "APPLE"));
+
+        var letters = state.lettersFor(P2);
+        assertEquals(LetterStates.USED, letters.get('A' - 'A'));
+        assertEquals(LetterStates.USED, letters.get('E' - 'A'));
+        assertEquals(LetterStates.UNKNOWN, letters.get('B' - 'A'));
+    }
+
+    @Test
+    void countsOnlyResultsRevealNoLetters() {
+        var state = new GameState(config(Difficulty.normal));
+        state.addGuess(new GuessEntry(P1, GuessResult.countsOnly("LEMON", 1, false), 0));
+
+        var merged = new byte[LetterStates.LETTERS];
+        state.lettersFor(P1).mergeInto(merged);
+        assertTrue(java.util.Arrays.equals(new byte[LetterStates.LETTERS], merged));
+    }
+
+    private static GameState.GameConfig config(Difficulty difficulty) {
+        return new GameState.GameConfig(GameMode.multiplayer, difficulty, WordLength.five, TimerDuration.none, P1, P2);
+    }
+
+    private static GuessEntry guess(GamePlayer player, String guess, String target) {
+        return new GuessEntry(player, GuessResult.ofPattern(guess, FeedbackPattern.evaluate(guess, target)), 0);
+    }
+}
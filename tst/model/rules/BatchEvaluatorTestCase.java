@@ -0,0 +1,50 @@
+package model.rules;
+
+import java.util.Random;
+import model.PackedWord;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+class BatchEvaluatorTestCase {
+
+    @Test
+    void matchesNormalEvaluatorForSmallAndLargeBatches() {
+        var evaluator = new NormalEvaluator();
+        var random = new Random(42);
+        for (int size : new int[] {10, BatchEvaluator.SEQUENTIAL_THRESHOLD * 5 + 3}) {
+            String guess = randomWord(random, 5);
+            String[] targets = new String[size];
+            int[] packedTargets = new int[size];
+            for (int i = 0; i < size; i++) {
+                targets[i] = randomWord(random, 5);
+                packedTargets[i] = PackedWord.encode(targets[i]);
+            }
+            short[] shorts = new short[size];
+            int[] ints = new int[size];
+
+            BatchEvaluator.evaluate(PackedWord.encode(guess), packedTargets, 5, shorts);
+            BatchEvaluator.evaluate(PackedWord.encode(guess), packedTargets, 5, ints);
+
+            for (int i = 0; i < size; i++) {
+                int expected = evaluator.evaluate(guess, targets[i]).patternCode();
+                assertEquals(expected, shorts[i], guess + " vs " + targets[i]);
+                assertEquals(expected, ints[i], guess + " vs " + targets[i]);
+            }
+        }
+    }
+
+    @Test
+    void rejectsTooSmallOutput() {
+        assertThrows(IllegalArgumentException.class,
+                () -> BatchEvaluator.evaluate(0, new int[3], 3, new short[2]));
+    }
+
+    // Small alphabet so repeated letters and partial matches are common
+    private static String randomWord(Random random, int length) {
+        char[] chars = new char[length];
+        for (int i = 0; i < length; i++) {
+            chars[i] = "AEILNRST".charAt(random.nextInt(8));
+        }
+        return new String(chars);
+    }
+}
@@ -0,0 +1,61 @@
+package model.rules;
+
+import java.util.List;
+import model.GuessResult;
+import model.PackedWord;
+import model.enums.LetterFeedback;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+class FeedbackPatternTestCase {
+
+    private static final LetterFeedback C = LetterFeedback.correct;
+    private static final LetterFeedback P = LetterFeedback.present;
+    private static final LetterFeedback N = LetterFeedback.notPresent;
+
+    @Test
+    void repeatedLettersOnlyScoreAsOftenAsTheTargetHasThem() {
+        assertEquals(List.of(P, P, N, N, N), feedback("LLAMA", "HELLO"));
+        assertEquals(List.of(P, N, C, N, C), feedback("EERIE", "THREE"));
+        assertEquals(List.of(N, N, C, C, P), feedback("SPOOL", "FLOOD"));
+    }
+
+    @Test
+    void packedAndStringPathsAgree() {
+        int[] scratch = new int[26];
+        String[] words = {"APPLE", "GRAPE", "PLANE", "LLAMA", "HELLO", "EERIE", "THREE"};
+        for (String guess : words) {
+            for (String target : words) {
+                int fromStrings = FeedbackPattern.evaluate(guess, target, scratch);
+                int fromPacked = FeedbackPattern.evaluate(PackedWord.encode(guess), PackedWord.encode(target), 5, scratch);
+                assertEquals(fromStrings, fromPacked, guess + " vs " + target);
+            }
+        }
+        for (int count : scratch) {
+            assertEquals(0, count, "Scratch buffer must be left zeroed");
+        }
+    }
+
+    @Test
+    void resultsBuiltFromListsAndPatternsAreEqual() {
+        var evaluated = new NormalEvaluator().evaluate("GRAPE", "APPLE");
+        var fromList = new GuessResult("GRAPE", List.of(N, N, P, P, C), 3, false);
+
+        assertEquals(fromList, evaluated);
+        assertEquals(fromList.patternCode(), evaluated.patternCode());
+        assertEquals(3, evaluated.correctLetterCount());
+        assertTrue(new NormalEvaluator().evaluate("apple", "APPLE").exactMatch());
+    }
+
+    @Test
+    void expertRevealsOnlyCounts() {
+        var result = new ExpertEvaluator().evaluate("GRAPE", "APPLE");
+        assertEquals(List.of(), result.feedback());
+        assertEquals(FeedbackPattern.NONE, result.patternCode());
+        assertEquals(3, result.correctLetterCount());
+    }
+
+    private static List<LetterFeedback> feedback(String guess, String target) {
+        return FeedbackPattern.toFeedback(FeedbackPattern.evaluate(guess, target), guess.length());
+    }
+}
@@ -0,0 +1,63 @@
+package model.rules;
+
+import java.nio.file.Files;
+import java.util.Arrays;
+import model.PackedWord;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+class PatternMatrixTestCase {
+
+    private static final String[] GUESSES = {"APPLE", "CRANE", "GRAPE", "PLANE", "SLATE"};
+    private static final String[] ANSWERS = {"APPLE", "GRAPE", "PLANE"};
+
+    @Test
+    void cellsMatchNormalEvaluatorAndSurviveSaveAndMap() throws Exception {
+        int[] guesses = packed(GUESSES);
+        int[] answers = packed(ANSWERS);
+        var file = Files.createTempFile("patterns", ".bin");
+        try {
+            var built = PatternMatrix.build(guesses, answers, 5);
+            built.save(file);
+            var mapped = PatternMatrix.loadOrBuild(file, guesses, answers, 5);
+
+            var evaluator = new NormalEvaluator();
+            for (String guess : GUESSES) {
+                for (String answer : ANSWERS) {
+                    int expected = evaluator.evaluate(guess, answer).patternCode();
+                    int g = built.guessIndexOf(PackedWord.encode(guess));
+                    int a = built.answerIndexOf(PackedWord.encode(answer));
+                    assertEquals(expected, built.pattern(g, a), guess + " vs " + answer);
+                    assertEquals(expected, mapped.pattern(g, a), "mapped " + guess + " vs " + answer);
+                }
+            }
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    @Test
+    void sixLetterPatternsUseWideCells() {
+        int[] words = packed(new String[] {"ORANGE", "PLANET", "STREAM"});
+        var matrix = PatternMatrix.build(words, words, 6);
+        assertEquals(FeedbackPattern.exactPattern(6), matrix.pattern(1, 1));
+    }
+
+    @Test
+    void staleFileIsRebuilt() throws Exception {
+        var file = Files.createTempFile("patterns", ".bin");
+        try {
+            PatternMatrix.build(packed(GUESSES), packed(ANSWERS), 5).save(file);
+            int[] fewer = packed(new String[] {"APPLE", "GRAPE"});
+            var matrix = PatternMatrix.loadOrBuild(file, fewer, fewer, 5);
+            assertEquals(2, matrix.guessCount());
+            assertEquals(2, PatternMatrix.load(file).answerCount(), "Rebuilt matrix should be saved");
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    private static int[] packed(String[] words) {
+        return Arrays.stream(words).mapToInt(PackedWord::encode).sorted().toArray();
+    }
+}
@@ -0,0 +1,69 @@
+package model.rules;
+
+import java.io.BufferedReader;
+import java.io.InputStreamReader;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import model.PackedWord;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Differential check of the SWAR bulk path against NormalEvaluator.
+ */
+class SwarEvaluatorTestCase {
+
+    @Test
+    void matchesNormalEvaluatorOverBundledWordLists() throws Exception {
+        List<String> words = new ArrayList<>();
+        words.addAll(readResource("/words.txt"));
+        words.addAll(readResource("/guesses.txt"));
+        assertFalse(words.isEmpty(), "Bundled word lists should be on the classpath");
+        for (int length = 3; length <= 6; length++) {
+            final int len = length;
+            assertMatches(words.stream().filter(w -> w.length() == len).toList(), len);
+        }
+    }
+
+    @Test
+    void matchesNormalEvaluatorOnRepeatedLetters() {
+        var random = new Random(11);
+        for (int length = 3; length <= 6; length++) {
+            List<String> words = new ArrayList<>();
+            for (int i = 0; i < 300; i++) {
+                char[] chars = new char[length];
+                for (int c = 0; c < length; c++) {
+                    chars[c] = "AELST".charAt(random.nextInt(5));
+                }
+                words.add(new String(chars));
+            }
+            assertMatches(words, length);
+        }
+    }
+
+    @Test
+    void zeroLanesFlagsOnlyMatchingPositions() {
+        int x = PackedWord.encode("CRANE") ^ PackedWord.encode("CRONE");
+        int lanes = SwarEvaluator.zeroLanes(x) & ((1 << 25) - 1);
+        assertEquals(4, Integer.bitCount(lanes), "C, R, N and E line up");
+    }
+
+    private static void assertMatches(List<String> words, int length) {
+        var evaluator = new NormalEvaluator();
+        int[] targets = words.stream().mapToInt(PackedWord::encode).toArray();
+        short[] patterns = new short[targets.length];
+        for (String guess : words) {
+            SwarEvaluator.evaluate(PackedWord.encode(guess), targets, 0, targets.length, length, patterns, null, new int[26]);
+            for (int i = 0; i < targets.length; i++) {
+                assertEquals(evaluator.evaluate(guess, words.get(i)).patternCode(), patterns[i], guess + " vs " + words.get(i));
+            }
+        }
+    }
+
+    private static List<String> readResource(String path) throws Exception {
+        try (var reader = new BufferedReader(new InputStreamReader(SwarEvaluatorTestCase.class.getResourceAsStream(path)))) {
+            return reader.lines().map(String::trim).filter(l -> !l.isEmpty() && !l.startsWith("#")).toList();
+        }
+    }
+}